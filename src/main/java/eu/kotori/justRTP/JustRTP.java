@@ -23,13 +23,13 @@ import java.util.List;
 
 public final class JustRTP extends JavaPlugin {
 
-    private static final int CONFIG_VERSION = 24;
-    private static final int MESSAGES_CONFIG_VERSION = 15;
+    private static final int CONFIG_VERSION = 42;
+    private static final int MESSAGES_CONFIG_VERSION = 17;
     private static final int MYSQL_CONFIG_VERSION = 5;
     private static final int ANIMATIONS_CONFIG_VERSION = 2;
     private static final int COMMANDS_CONFIG_VERSION = 4;
     private static final int ZONES_CONFIG_VERSION = 11;
-    private static final int HOLOGRAMS_CONFIG_VERSION = 8;
+    private static final int HOLOGRAMS_CONFIG_VERSION = 9;
     private static final int REDIS_CONFIG_VERSION = 3;
     private static final int CUSTOM_LOCATIONS_CONFIG_VERSION = 1;
 
@@ -47,6 +47,12 @@ public final class JustRTP extends JavaPlugin {
     private ProxyManager proxyManager;
     private DatabaseManager databaseManager;
     private LocationCacheManager locationCacheManager;
+    private LandingLeaseManager landingLeaseManager;
+    private LocationReservationManager locationReservationManager;
+    private SharedLocationPoolManager sharedLocationPoolManager;
+    private PregenerationManager pregenerationManager;
+    private JoinLocationPoolManager joinLocationPoolManager;
+    private ScatterManager scatterManager;
     private AnimationManager animationManager;
     private ConfirmationManager confirmationManager;
     private VaultHook vaultHook;
@@ -138,6 +144,9 @@ public final class JustRTP extends JavaPlugin {
         proxyManager = new ProxyManager(this);
         crossServerManager = new CrossServerManager(this);
         cooldownManager = new CooldownManager();
+        landingLeaseManager = new LandingLeaseManager(this);
+        locationReservationManager = new LocationReservationManager(this);
+        scatterManager = new ScatterManager(this);
         rtpService = new RTPService(this);
         delayManager = new DelayManager(this);
         teleportQueueManager = new TeleportQueueManager(this);
@@ -151,6 +160,9 @@ public final class JustRTP extends JavaPlugin {
         addonManager = new AddonManager(this);
 
         locationCacheManager = new LocationCacheManager(this);
+        sharedLocationPoolManager = new SharedLocationPoolManager(this);
+        pregenerationManager = new PregenerationManager(this);
+        joinLocationPoolManager = new JoinLocationPoolManager(this);
 
         rtpLogger.debug("INIT", "Registering commands and event listeners...");
         commandManager.registerCommands();
@@ -190,6 +202,9 @@ public final class JustRTP extends JavaPlugin {
             
             rtpLogger.info("CACHE", "Initializing location cache...");
             locationCacheManager.initialize();
+            sharedLocationPoolManager.initialize();
+            pregenerationManager.initialize();
+            joinLocationPoolManager.initialize();
             
             if (configManager.isZoneSyncEnabled()) {
                 rtpLogger.info("SYNC", "Initializing zone synchronization...");
@@ -254,6 +269,18 @@ public final class JustRTP extends JavaPlugin {
             databaseManager.close();
         }
         
+        if (sharedLocationPoolManager != null) {
+            sharedLocationPoolManager.shutdown();
+        }
+        
+        if (pregenerationManager != null) {
+            pregenerationManager.shutdown();
+        }
+        
+        if (joinLocationPoolManager != null) {
+            joinLocationPoolManager.shutdown();
+        }
+        
         if (locationCacheManager != null) {
             rtpLogger.info("CACHE", "Saving location cache...");
             locationCacheManager.shutdown();
@@ -297,6 +324,9 @@ public final class JustRTP extends JavaPlugin {
         localeManager.loadMessages();
         configManager.reload();
         rtpService.loadConfigValues();
+        landingLeaseManager.reload();
+        locationReservationManager.reload();
+        scatterManager.reload();
         teleportQueueManager.reload();
         animationManager.reload();
         effectsManager.reload();
@@ -323,6 +353,9 @@ public final class JustRTP extends JavaPlugin {
         }
         locationCacheManager = new LocationCacheManager(this);
         locationCacheManager.initialize();
+        sharedLocationPoolManager.initialize();
+        pregenerationManager.initialize();
+        joinLocationPoolManager.initialize();
         animationManager = new AnimationManager(this);
 
         for (Player player : getServer().getOnlinePlayers()) {
@@ -380,6 +413,12 @@ public final class JustRTP extends JavaPlugin {
     public ProxyManager getProxyManager() { return proxyManager; }
     public DatabaseManager getDatabaseManager() { return databaseManager; }
     public LocationCacheManager getLocationCacheManager() { return locationCacheManager; }
+    public SharedLocationPoolManager getSharedLocationPoolManager() { return sharedLocationPoolManager; }
+    public PregenerationManager getPregenerationManager() { return pregenerationManager; }
+    public JoinLocationPoolManager getJoinLocationPoolManager() { return joinLocationPoolManager; }
+    public ScatterManager getScatterManager() { return scatterManager; }
+    public LandingLeaseManager getLandingLeaseManager() { return landingLeaseManager; }
+    public LocationReservationManager getLocationReservationManager() { return locationReservationManager; }
     public AnimationManager getAnimationManager() { return animationManager; }
     public CommandManager getCommandManager() { return commandManager; }
     public ConfirmationManager getConfirmationManager() { return confirmationManager; }
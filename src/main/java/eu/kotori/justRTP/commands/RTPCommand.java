@@ -52,6 +52,7 @@ public class RTPCommand implements CommandExecutor {
                 case "confirm": handleConfirm(sender); return true;
                 case "help": handleHelp(sender); return true;
                 case "location": handleLocation(sender, args); return true;
+                case "scatter": handleScatter(sender, args); return true;
             }
         }
 
@@ -170,43 +171,19 @@ public class RTPCommand implements CommandExecutor {
         }
 
         if (targetWorld == null && targetServer == null) {
-            String configuredDefaultWorld = plugin.getConfig().getString("settings.default_world", "").trim();
-
-            if (!configuredDefaultWorld.isEmpty()) {
-                if (sender instanceof Player p && p.hasPermission("justrtp.bypass.default_world")) {
-                    targetWorld = targetPlayer.getWorld();
-                } else {
-                    World defaultWorldObj = Bukkit.getWorld(configuredDefaultWorld);
-                    if (defaultWorldObj != null) {
-                        targetWorld = defaultWorldObj;
-                    } else {
-                        plugin.debug("Configured default RTP world not found: " + configuredDefaultWorld + ", falling back to player world");
-                        targetWorld = targetPlayer.getWorld();
-                    }
-                }
-            } else {
-                targetWorld = targetPlayer.getWorld();
-            }
+            targetWorld = resolveDefaultWorld(sender, targetPlayer.getWorld());
         }
 
-        if (targetWorld != null && plugin.getConfigManager().isSpawnRedirectEnabled()) {
-            String spawnWorldName = plugin.getConfigManager().getSpawnWorldName();
-            String redirectTargetWorldName = plugin.getConfigManager().getSpawnRedirectTargetWorld();
-            
-            if (targetWorld.getName().equalsIgnoreCase(spawnWorldName) && args.length == 0) {
-                World redirectWorld = Bukkit.getWorld(redirectTargetWorldName);
-                if (redirectWorld != null) {
-                    targetWorld = redirectWorld;
-                    plugin.debug("Spawn redirect: " + spawnWorldName + " -> " + redirectTargetWorldName);
-                    
-                    if (plugin.getConfigManager().shouldNotifySpawnRedirect() && sender instanceof Player) {
-                        plugin.getLocaleManager().sendMessage(sender, "spawn_redirect.redirected", 
-                            Placeholder.unparsed("from_world", spawnWorldName),
-                            Placeholder.unparsed("to_world", redirectTargetWorldName));
-                    }
-                } else {
-                    plugin.debug("Spawn redirect target world not found: " + redirectTargetWorldName);
+        if (targetWorld != null && args.length == 0) {
+            World redirectWorld = applySpawnRedirect(targetWorld);
+            if (!redirectWorld.equals(targetWorld)) {
+                plugin.debug("Spawn redirect: " + targetWorld.getName() + " -> " + redirectWorld.getName());
+                if (plugin.getConfigManager().shouldNotifySpawnRedirect() && sender instanceof Player) {
+                    plugin.getLocaleManager().sendMessage(sender, "spawn_redirect.redirected", 
+                        Placeholder.unparsed("from_world", targetWorld.getName()),
+                        Placeholder.unparsed("to_world", redirectWorld.getName()));
                 }
+                targetWorld = redirectWorld;
             }
         }
 
@@ -232,6 +209,39 @@ public class RTPCommand implements CommandExecutor {
         return new ParsedCommand(targetPlayer, targetWorld, targetServer, proxyTargetWorld, minRadius, maxRadius, true, "");
     }
 
+    public World resolveDefaultWorld(CommandSender sender, World currentWorld) {
+        String configuredDefaultWorld = plugin.getConfig().getString("settings.default_world", "").trim();
+        if (configuredDefaultWorld.isEmpty()) {
+            return currentWorld;
+        }
+        if (sender instanceof Player p && p.hasPermission("justrtp.bypass.default_world")) {
+            return currentWorld;
+        }
+        World defaultWorldObj = Bukkit.getWorld(configuredDefaultWorld);
+        if (defaultWorldObj == null) {
+            plugin.debug("Configured default RTP world not found: " + configuredDefaultWorld + ", falling back to player world");
+            return currentWorld;
+        }
+        return defaultWorldObj;
+    }
+
+    public World applySpawnRedirect(World world) {
+        if (!plugin.getConfigManager().isSpawnRedirectEnabled()) {
+            return world;
+        }
+        String spawnWorldName = plugin.getConfigManager().getSpawnWorldName();
+        if (!world.getName().equalsIgnoreCase(spawnWorldName)) {
+            return world;
+        }
+        String redirectTargetWorldName = plugin.getConfigManager().getSpawnRedirectTargetWorld();
+        World redirectWorld = Bukkit.getWorld(redirectTargetWorldName);
+        if (redirectWorld == null) {
+            plugin.debug("Spawn redirect target world not found: " + redirectTargetWorldName);
+            return world;
+        }
+        return redirectWorld;
+    }
+
     private CompletableFuture<Boolean> validateAndInitiateProxyRtp(CommandSender sender, ParsedCommand parsed, String[] rawArgs) {
         plugin.debug("Validating and initiating proxy RTP.");
         Player target = parsed.targetPlayer();
@@ -371,6 +381,7 @@ public class RTPCommand implements CommandExecutor {
                     executeTeleportationLogic(sender, parsed, crossServerNoDelay, finalCost, true)
                             .thenAccept(confirmationFuture::complete);
                 });
+                plugin.getLocationReservationManager().reserve(targetPlayer, parsed.targetWorld(), parsed.minRadius(), parsed.maxRadius());
                 plugin.getLocaleManager().sendMessage(targetPlayer, "economy.needs_confirmation", Placeholder.unparsed("cost", String.valueOf(finalCost)));
                 return confirmationFuture;
             }
@@ -398,10 +409,15 @@ public class RTPCommand implements CommandExecutor {
         int delay = (sender instanceof Player && targetPlayer.equals(sender) && !crossServerNoDelay) ? plugin.getConfigManager().getDelay(targetPlayer, targetWorld) : 0;
         int cooldown = plugin.getConfigManager().getCooldown(targetPlayer, targetWorld);
 
+        if (delay > 0) {
+            plugin.getLocationReservationManager().reserve(targetPlayer, targetWorld, parsed.minRadius(), parsed.maxRadius());
+        }
+
         plugin.getDelayManager().startDelay(targetPlayer, () -> {
             if (plugin.getConfig().getBoolean("economy.enabled") && cost > 0 && plugin.getVaultHook().hasEconomy()) {
                 if (!plugin.getVaultHook().withdrawPlayer(targetPlayer, cost)) {
                     plugin.getLocaleManager().sendMessage(targetPlayer, "economy.not_enough_money", Placeholder.unparsed("cost", String.valueOf(cost)));
+                    plugin.getLocationReservationManager().discard(targetPlayer);
                     future.complete(false);
                     return;
                 }
@@ -564,6 +580,7 @@ public class RTPCommand implements CommandExecutor {
         sender.sendMessage(mm.deserialize("  <white>/rtp confirm            <dark_gray>→ <gray>Confirm paid teleport"));
         sender.sendMessage(mm.deserialize("  <white>/rtp proxystatus        <dark_gray>→ <gray>Check proxy/database status"));
         sender.sendMessage(mm.deserialize("  <white>/rtp reload             <dark_gray>→ <gray>Reload configuration <gray>(admin)"));
+        sender.sendMessage(mm.deserialize("  <white>/rtp scatter <aqua><world> <gold><selector> <dark_gray>→ <gray>Spread many players at once <gray>(admin)"));
         sender.sendMessage(mm.deserialize(""));
         sender.sendMessage(mm.deserialize("<gradient:#20B2AA:#7FFFD4>━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━</gradient>"));
     }
@@ -588,6 +605,57 @@ public class RTPCommand implements CommandExecutor {
         plugin.getCustomLocationManager().teleportToLocation(player, locationName);
     }
 
+    private void handleScatter(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("justrtp.command.scatter")) {
+            plugin.getLocaleManager().sendMessage(sender, "command.no_permission");
+            return;
+        }
+
+        if (args.length < 3) {
+            plugin.getLocaleManager().sendMessage(sender, "scatter.usage");
+            return;
+        }
+
+        World world = Bukkit.getWorld(plugin.getConfigManager().resolveWorldAlias(args[1]));
+        if (world == null) {
+            plugin.getLocaleManager().sendMessage(sender, "command.world_not_found", Placeholder.unparsed("world", args[1]),
+                    Placeholder.unparsed("worlds", String.join(", ", Bukkit.getWorlds().stream().map(World::getName).toList())));
+            return;
+        }
+
+        List<Player> players = selectPlayers(sender, args[2]);
+        if (players.isEmpty()) {
+            plugin.getLocaleManager().sendMessage(sender, "scatter.no_players", Placeholder.unparsed("selector", args[2]));
+            return;
+        }
+
+        if (plugin.getScatterManager().isScattering(world)) {
+            plugin.getLocaleManager().sendMessage(sender, "scatter.already_running", Placeholder.unparsed("world", world.getName()));
+            return;
+        }
+
+        plugin.getScatterManager().scatter(world, players, sender);
+    }
+
+    private List<Player> selectPlayers(CommandSender sender, String selector) {
+        if (selector.equalsIgnoreCase("all") || selector.equals("@a")) {
+            return new ArrayList<>(Bukkit.getOnlinePlayers());
+        }
+        Player exact = Bukkit.getPlayerExact(selector);
+        if (exact != null) {
+            return List.of(exact);
+        }
+        List<Player> players = new ArrayList<>();
+        try {
+            Bukkit.selectEntities(sender, selector).forEach(entity -> {
+                if (entity instanceof Player player) players.add(player);
+            });
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            plugin.debug("Could not resolve scatter selector '" + selector + "': " + e.getMessage());
+        }
+        return players;
+    }
+
     private void handleReload(CommandSender sender) {
         if (!sender.hasPermission("justrtp.command.reload")) { plugin.getLocaleManager().sendMessage(sender, "command.no_permission"); return; }
         plugin.reload();
@@ -36,6 +36,7 @@ public class RTPTabCompleter implements TabCompleter {
             }
             
             if (sender.hasPermission("justrtp.command.rtp.location")) options.add("location");
+            if (sender.hasPermission("justrtp.command.scatter")) options.add("scatter");
 
             boolean creditsPermissionRequired = plugin.getConfig().getBoolean("settings.credits_command_requires_permission", true);
             if (!creditsPermissionRequired || sender.hasPermission("justrtp.command.credits")) {
@@ -49,6 +50,20 @@ public class RTPTabCompleter implements TabCompleter {
             }
         }
 
+        if (args[0].equalsIgnoreCase("scatter") && args.length > 1) {
+            if (!sender.hasPermission("justrtp.command.scatter")) return completions;
+            if (args.length == 2) {
+                Bukkit.getWorlds().forEach(w -> options.add(w.getName()));
+            } else if (args.length == 3) {
+                options.add("@a");
+                options.add("all");
+                Bukkit.getOnlinePlayers().forEach(p -> options.add(p.getName()));
+            }
+            StringUtil.copyPartialMatches(currentArg, options, completions);
+            Collections.sort(completions);
+            return completions;
+        }
+
         if (sender.hasPermission("justrtp.command.rtp.world")) {
             boolean worldAlreadyPresent = Bukkit.getWorlds().stream().anyMatch(w -> currentArgs.contains(w.getName()));
             if (!worldAlreadyPresent) {
@@ -0,0 +1,119 @@
+package eu.kotori.justRTP.events;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * API Documentation can be found on https://kotori.ink/wiki/justrtp/api
+ * Called periodically for every player waiting in the teleport queue.
+ * This event is NOT cancellable.
+ * 
+ * <p>Use this event to:</p>
+ * <ul>
+ *   <li>Show the queue position in scoreboards, boss bars or GUIs</li>
+ *   <li>Tell players how long they still have to wait</li>
+ *   <li>Monitor queue pressure</li>
+ * </ul>
+ * 
+ * <p>The interval is set by {@code performance.queue_updates.interval_ticks} in config.yml.</p>
+ * 
+ * @see PlayerRTPEvent for the start of a teleport
+ */
+public class PlayerRTPQueueUpdateEvent extends Event {
+    private static final HandlerList HANDLERS = new HandlerList();
+    
+    private final Player player;
+    private final World targetWorld;
+    private final int position;
+    private final int queueSize;
+    private final long etaMillis;
+    
+    /**
+     * Constructs a new PlayerRTPQueueUpdateEvent.
+     *
+     * @param player The queued player
+     * @param targetWorld The world the player is queued for
+     * @param position The estimated position in the queue (1 = next)
+     * @param queueSize The total number of queued requests
+     * @param etaMillis The estimated time until the search starts, in milliseconds
+     */
+    public PlayerRTPQueueUpdateEvent(@NotNull Player player, @NotNull World targetWorld, 
+                                     int position, int queueSize, long etaMillis) {
+        this.player = player;
+        this.targetWorld = targetWorld;
+        this.position = position;
+        this.queueSize = queueSize;
+        this.etaMillis = etaMillis;
+    }
+    
+    /**
+     * Gets the queued player.
+     *
+     * @return The player
+     */
+    @NotNull
+    public Player getPlayer() {
+        return player;
+    }
+    
+    /**
+     * Gets the world the player is queued for.
+     *
+     * @return The target world
+     */
+    @NotNull
+    public World getTargetWorld() {
+        return targetWorld;
+    }
+    
+    /**
+     * Gets the estimated position of the player in the queue.
+     * Priority lanes and other worlds are taken into account, so this is an estimate.
+     *
+     * @return The position, starting at 1
+     */
+    public int getPosition() {
+        return position;
+    }
+    
+    /**
+     * Gets the total number of requests currently queued.
+     *
+     * @return The queue size
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+    
+    /**
+     * Gets the estimated time until the player's search starts, based on the recent queue speed.
+     *
+     * @return The estimate in milliseconds
+     */
+    public long getEtaMillis() {
+        return etaMillis;
+    }
+    
+    /**
+     * Gets the estimated time until the player's search starts, rounded up to whole seconds.
+     *
+     * @return The estimate in seconds
+     */
+    public int getEtaSeconds() {
+        return (int) Math.ceil(etaMillis / 1000.0);
+    }
+    
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    @NotNull
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -2,6 +2,7 @@ package eu.kotori.justRTP.handlers;
 
 import eu.kotori.justRTP.JustRTP;
 import eu.kotori.justRTP.commands.RTPCommand;
+import eu.kotori.justRTP.utils.SafetyValidator;
 import io.papermc.lib.PaperLib;
 import io.papermc.paper.event.player.AsyncChatEvent;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
@@ -13,11 +14,13 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.*;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -42,6 +45,13 @@ public class PlayerListener implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        if (!plugin.getJoinLocationPoolManager().isEnabled()) return;
+        if (plugin.getServer().getOfflinePlayer(event.getUniqueId()).hasPlayedBefore()) return;
+        plugin.getJoinLocationPoolManager().claim(event.getUniqueId());
+    }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
@@ -229,7 +239,20 @@ public class PlayerListener implements Listener {
             String worldName = plugin.getConfig().getString("first_join_rtp.target_world");
             World world = plugin.getServer().getWorld(worldName);
             if (world != null) {
-                plugin.getTeleportQueueManager().requestTeleport(player, world, java.util.Optional.empty(), java.util.Optional.empty());
+                Optional<Location> pooled = plugin.getJoinLocationPoolManager().take(player, world);
+                if (pooled.isEmpty()) {
+                    plugin.getTeleportQueueManager().requestTeleport(player, world, Optional.empty(), Optional.empty());
+                    return;
+                }
+                SafetyValidator.isLocationAbsolutelySafeAsync(pooled.get()).thenAccept(safe -> {
+                    if (!player.isOnline()) return;
+                    if (safe) {
+                        plugin.debug("Serving first-join RTP for " + player.getName() + " from the join pool");
+                        plugin.getRtpService().teleportPlayer(player, pooled.get());
+                    } else {
+                        plugin.getTeleportQueueManager().requestTeleport(player, world, Optional.empty(), Optional.empty());
+                    }
+                });
             } else {
                 plugin.getLogger().warning("Invalid world specified for first_join_rtp: " + worldName);
             }
@@ -305,6 +328,29 @@ public class PlayerListener implements Listener {
         });
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        if (!plugin.getConfig().getBoolean("respawn_rtp.enabled", false)) return;
+        if (!plugin.getConfig().getBoolean("respawn_rtp.prefetch_on_death", true)) return;
+        Player player = event.getEntity();
+        List<String> enabledWorlds = plugin.getConfig().getStringList("respawn_rtp.worlds");
+        if (!enabledWorlds.isEmpty() && !enabledWorlds.contains(player.getWorld().getName())) return;
+
+        RTPCommand rtpCommand = (RTPCommand) plugin.getCommand("justrtp").getExecutor();
+        World respawnWorld = plugin.getServer().getWorlds().get(0);
+        World targetWorld = rtpCommand.applySpawnRedirect(rtpCommand.resolveDefaultWorld(player, respawnWorld));
+        if (!plugin.getRtpService().isRtpEnabled(targetWorld)) return;
+
+        if (!player.isOp() && !player.hasPermission("justrtp.cooldown.bypass")
+                && plugin.getCooldownManager().getRemaining(player.getUniqueId(), targetWorld.getName()) > 0) {
+            return;
+        }
+
+        if (plugin.getLocationReservationManager().reserve(player, targetWorld, Optional.empty(), Optional.empty())) {
+            plugin.debug("Prefetching respawn RTP location in " + targetWorld.getName() + " for " + player.getName());
+        }
+    }
+
     @EventHandler
     public void onPlayerRespawn(PlayerRespawnEvent event) {
         if (!plugin.getConfig().getBoolean("respawn_rtp.enabled", false)) return;
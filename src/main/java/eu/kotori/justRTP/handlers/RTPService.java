@@ -4,6 +4,7 @@ import eu.kotori.justRTP.JustRTP;
 import eu.kotori.justRTP.events.PlayerPostRTPEvent;
 import eu.kotori.justRTP.handlers.hooks.HookManager;
 import eu.kotori.justRTP.managers.ConfigManager;
+import eu.kotori.justRTP.managers.LandingLeaseManager;
 import eu.kotori.justRTP.utils.SafetyValidator;
 import io.papermc.lib.PaperLib;
 import org.bukkit.*;
@@ -20,7 +21,7 @@ import java.util.stream.Collectors;
 
 public class RTPService {
     private enum WorldType { NORMAL, NETHER, THE_END }
-    private enum FailureReason { BLACKLISTED_BLOCK, LAVA_NEARBY, LIQUID_FLOOR, AIR_FLOOR, OBSTRUCTED, INVALID_BIOME, REGION_CLAIM, UNKNOWN }
+    private enum FailureReason { BLACKLISTED_BLOCK, LAVA_NEARBY, LIQUID_FLOOR, AIR_FLOOR, OBSTRUCTED, INVALID_BIOME, REGION_CLAIM, NEARBY_LANDING, UNKNOWN }
     private record SearchSummary(Map<FailureReason, Integer> failureCounts) {
         public SearchSummary() {
             this(new EnumMap<>(FailureReason.class));
@@ -28,6 +29,9 @@ public class RTPService {
         public void increment(FailureReason reason) {
             failureCounts.merge(reason, 1, Integer::sum);
         }
+        public void merge(SearchSummary other) {
+            other.failureCounts.forEach((reason, count) -> failureCounts.merge(reason, count, Integer::sum));
+        }
         @Override
         public String toString() {
             if (failureCounts.isEmpty()) return "No failures.";
@@ -37,6 +41,63 @@ public class RTPService {
         }
     }
 
+    public record SearchArea(World world, int centerX, int centerZ, double minRadius, double maxRadius) {
+        public boolean contains(int x, int z) {
+            double offX = x - centerX;
+            double offZ = z - centerZ;
+            double distanceSquared = offX * offX + offZ * offZ;
+            return distanceSquared >= minRadius * minRadius && distanceSquared <= maxRadius * maxRadius;
+        }
+    }
+
+    private static final class BatchSearch {
+        final SearchArea area;
+        final int count;
+        final long separationSquared;
+        final boolean generateChunks;
+        final Set<Long> visitedChunks = ConcurrentHashMap.newKeySet();
+        final List<Location> found = new ArrayList<>();
+        final SearchSummary summary = new SearchSummary();
+        int attemptsLeft;
+
+        BatchSearch(SearchArea area, int count, int separation, boolean generateChunks, int attempts) {
+            this.area = area;
+            this.count = count;
+            this.separationSquared = (long) separation * separation;
+            this.generateChunks = generateChunks;
+            this.attemptsLeft = attempts;
+        }
+
+        synchronized int remaining() {
+            return count - found.size();
+        }
+
+        synchronized List<Location> results() {
+            return new ArrayList<>(found);
+        }
+
+        synchronized void record(SearchSummary local) {
+            summary.merge(local);
+        }
+
+        synchronized boolean offer(Location location) {
+            if (found.size() >= count) return false;
+            for (Location other : found) {
+                double offX = other.getX() - location.getX();
+                double offZ = other.getZ() - location.getZ();
+                if (offX * offX + offZ * offZ < separationSquared) {
+                    summary.increment(FailureReason.NEARBY_LANDING);
+                    return false;
+                }
+            }
+            found.add(location);
+            return true;
+        }
+    }
+
+    // extra columns tried in a chunk the batch already paid to load
+    private static final int BATCH_COLUMNS_PER_CHUNK = 4;
+
     private final JustRTP plugin;
     private final ConfigManager config;
     private final HookManager hookManager;
@@ -160,6 +221,21 @@ public class RTPService {
         });
     }
 
+    public boolean matchesCacheSettings(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ) {
+        if (minRadius.isPresent() || maxRadius.isPresent()) {
+            return false;
+        }
+        if (config.getInt(player, world, "min_radius", 100) != config.getInt(null, world, "min_radius", 100)
+                || config.getInt(player, world, "max_radius", -1) != config.getInt(null, world, "max_radius", -1)) {
+            return false;
+        }
+        ConfigurationSection worldConfig = plugin.getConfig().getConfigurationSection("custom_worlds." + world.getName());
+        Location borderCenter = world.getWorldBorder().getCenter();
+        int defaultCenterX = (worldConfig != null) ? worldConfig.getInt("center_x", 0) : (int) borderCenter.getX();
+        int defaultCenterZ = (worldConfig != null) ? worldConfig.getInt("center_z", 0) : (int) borderCenter.getZ();
+        return centerX == defaultCenterX && centerZ == defaultCenterZ;
+    }
+
     public CompletableFuture<Optional<Location>> findSafeLocationForCache(World world) {
         boolean generateChunks = plugin.getConfigManager().shouldGenerateChunks(world);
         int attempts = getDimensionAttempts(world);
@@ -213,44 +289,10 @@ public class RTPService {
             return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        WorldBorder border = world.getWorldBorder();
-        double borderSize = border.getSize() / 2;
-        Location borderCenter = border.getCenter();
-
-        final double ABSOLUTE_MAX_RADIUS = 10_000_000;
-        final double SAFE_BORDER_SIZE = Math.min(borderSize, ABSOLUTE_MAX_RADIUS);
-        
-        if (borderSize > ABSOLUTE_MAX_RADIUS && !borderWarningShown.contains(world.getName())) {
-            borderWarningShown.add(world.getName());
-            plugin.getLogger().warning("World border for '" + world.getName() + "' is extremely large (" + borderSize + " blocks)!");
-            plugin.getLogger().warning("Limiting RTP radius to " + ABSOLUTE_MAX_RADIUS + " blocks to prevent server crashes.");
-        }
-
-        double initialMaxR = Math.min(SAFE_BORDER_SIZE, maxRadius.orElse(config.getInt(player, world, "max_radius", (int) SAFE_BORDER_SIZE)));
-        double initialMinR = minRadius.orElse(config.getInt(player, world, "min_radius", 100));
-
-        final double finalMinRadius = Math.min(initialMinR, initialMaxR);
-        final double finalMaxRadius = Math.max(initialMinR, initialMaxR);
-
-        ConfigurationSection worldConfig = plugin.getConfig().getConfigurationSection("custom_worlds." + world.getName());
-        int cX, cZ;
-        if (useCustomCenter) {
-            cX = customCenterX;
-            cZ = customCenterZ;
-            plugin.debug("Using custom center coordinates: X=" + cX + ", Z=" + cZ);
-        } else {
-            cX = (worldConfig != null) ? worldConfig.getInt("center_x", 0) : (int) borderCenter.getX();
-            cZ = (worldConfig != null) ? worldConfig.getInt("center_z", 0) : (int) borderCenter.getZ();
-        }
-
-        double angle = ThreadLocalRandom.current().nextDouble(2 * Math.PI);
-        double radius = Math.sqrt(ThreadLocalRandom.current().nextDouble()) * (finalMaxRadius - finalMinRadius) + finalMinRadius;
-
-        double targetX = cX + radius * Math.cos(angle);
-        double targetZ = cZ + radius * Math.sin(angle);
-        
-        final int x = (int) Math.max(borderCenter.getX() - SAFE_BORDER_SIZE, Math.min(borderCenter.getX() + SAFE_BORDER_SIZE, targetX));
-        final int z = (int) Math.max(borderCenter.getZ() - SAFE_BORDER_SIZE, Math.min(borderCenter.getZ() + SAFE_BORDER_SIZE, targetZ));
+        SearchArea area = resolveSearchArea(player, world, minRadius, maxRadius, customCenterX, customCenterZ, useCustomCenter);
+        int[] column = pickColumn(area);
+        final int x = column[0];
+        final int z = column[1];
         
         final int MAX_COORDINATE = 10_000_000;
         if (Math.abs(x) > MAX_COORDINATE || Math.abs(z) > MAX_COORDINATE) {
@@ -277,19 +319,7 @@ public class RTPService {
                 return findLocationRecursive(player, world, attemptsLeft - 1, minRadius, maxRadius, generateChunks, summary, customCenterX, customCenterZ, useCustomCenter);
             }
             
-            final WorldType type;
-            WorldType configuredType = worldTypes.get(world.getName());
-            if (configuredType == null) {
-                if (world.getEnvironment() == World.Environment.NETHER) {
-                    type = WorldType.NETHER;
-                } else if (world.getEnvironment() == World.Environment.THE_END) {
-                    type = WorldType.THE_END;
-                } else {
-                    type = WorldType.NORMAL;
-                }
-            } else {
-                type = configuredType;
-            }
+            final WorldType type = resolveWorldType(world);
             
             if (world.getEnvironment() == World.Environment.NETHER && type != WorldType.NETHER) {
                 plugin.getLogger().warning("[NETHER OVERRIDE] World '" + world.getName() + "' has NETHER environment but type was " + type + " - FORCING to NETHER for safety!");
@@ -359,6 +389,14 @@ public class RTPService {
                         plugin.debug("[OVERWORLD SAFE] ✓ Overworld location verified safe: Y=" + y + " in " + world.getName());
                     }
 
+                    LandingLeaseManager landingLeases = plugin.getLandingLeaseManager();
+                    boolean separated = player != null ? landingLeases.tryLease(loc) : landingLeases.isClear(loc);
+                    if (!separated) {
+                        plugin.debug("Rejected location at " + loc.getBlockX() + "," + loc.getBlockZ() + " in " + world.getName() + " - too close to a recent landing (retrying...)");
+                        summary.increment(FailureReason.NEARBY_LANDING);
+                        return findLocationRecursive(player, world, attemptsLeft - 1, minRadius, maxRadius, generateChunks, summary, customCenterX, customCenterZ, useCustomCenter);
+                    }
+
                     plugin.debug("Success: Found safe location at " + loc.getBlockX() + "," + loc.getBlockY() + "," + loc.getBlockZ() + " after " + (getDimensionAttempts(world) - attemptsLeft + 1) + " attempts.");
                     return CompletableFuture.completedFuture(safeSpot);
                 });
@@ -367,6 +405,174 @@ public class RTPService {
         });
     }
 
+    public SearchArea resolveSearchArea(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, int customCenterX, int customCenterZ, boolean useCustomCenter) {
+        final double SAFE_BORDER_SIZE = getSafeBorderSize(world);
+        Location borderCenter = world.getWorldBorder().getCenter();
+
+        double initialMaxR = Math.min(SAFE_BORDER_SIZE, maxRadius.orElse(config.getInt(player, world, "max_radius", (int) SAFE_BORDER_SIZE)));
+        double initialMinR = minRadius.orElse(config.getInt(player, world, "min_radius", 100));
+
+        ConfigurationSection worldConfig = plugin.getConfig().getConfigurationSection("custom_worlds." + world.getName());
+        int cX, cZ;
+        if (useCustomCenter) {
+            cX = customCenterX;
+            cZ = customCenterZ;
+            plugin.debug("Using custom center coordinates: X=" + cX + ", Z=" + cZ);
+        } else {
+            cX = (worldConfig != null) ? worldConfig.getInt("center_x", 0) : (int) borderCenter.getX();
+            cZ = (worldConfig != null) ? worldConfig.getInt("center_z", 0) : (int) borderCenter.getZ();
+        }
+        return new SearchArea(world, cX, cZ, Math.min(initialMinR, initialMaxR), Math.max(initialMinR, initialMaxR));
+    }
+
+    private double getSafeBorderSize(World world) {
+        double borderSize = world.getWorldBorder().getSize() / 2;
+
+        final double ABSOLUTE_MAX_RADIUS = 10_000_000;
+        if (borderSize > ABSOLUTE_MAX_RADIUS && !borderWarningShown.contains(world.getName())) {
+            borderWarningShown.add(world.getName());
+            plugin.getLogger().warning("World border for '" + world.getName() + "' is extremely large (" + borderSize + " blocks)!");
+            plugin.getLogger().warning("Limiting RTP radius to " + ABSOLUTE_MAX_RADIUS + " blocks to prevent server crashes.");
+        }
+        return Math.min(borderSize, ABSOLUTE_MAX_RADIUS);
+    }
+
+    private int[] pickColumn(SearchArea area) {
+        final double SAFE_BORDER_SIZE = getSafeBorderSize(area.world());
+        Location borderCenter = area.world().getWorldBorder().getCenter();
+
+        double angle = ThreadLocalRandom.current().nextDouble(2 * Math.PI);
+        double radius = Math.sqrt(ThreadLocalRandom.current().nextDouble()) * (area.maxRadius() - area.minRadius()) + area.minRadius();
+
+        double targetX = area.centerX() + radius * Math.cos(angle);
+        double targetZ = area.centerZ() + radius * Math.sin(angle);
+
+        int x = (int) Math.max(borderCenter.getX() - SAFE_BORDER_SIZE, Math.min(borderCenter.getX() + SAFE_BORDER_SIZE, targetX));
+        int z = (int) Math.max(borderCenter.getZ() - SAFE_BORDER_SIZE, Math.min(borderCenter.getZ() + SAFE_BORDER_SIZE, targetZ));
+        return new int[]{x, z};
+    }
+
+    // One search for several players heading to the same area: chunks are loaded in parallel waves,
+    // each chunk is scanned once and never loaded again by this batch, and the spots are kept apart.
+    // The spots are not leased; callers lease each one for the player it goes to.
+    public CompletableFuture<List<Location>> findSafeLocations(SearchArea area, int count, int separation) {
+        World world = area.world();
+        boolean generateChunks = plugin.getConfigManager().shouldGenerateChunks(world);
+        int attempts = getDimensionAttempts(world) * count;
+        LandingLeaseManager landingLeases = plugin.getLandingLeaseManager();
+        int minSeparation = landingLeases.isEnabled() ? Math.max(separation, landingLeases.getMinDistance()) : separation;
+        return searchBatch(new BatchSearch(area, count, minSeparation, generateChunks, attempts));
+    }
+
+    private CompletableFuture<List<Location>> searchBatch(BatchSearch batch) {
+        int needed = batch.remaining();
+        World world = batch.area.world();
+        if (needed <= 0) {
+            return CompletableFuture.completedFuture(batch.results());
+        }
+        if (batch.attemptsLeft <= 0) {
+            List<Location> results = batch.results();
+            plugin.debug("Batched search in " + world.getName() + " found " + results.size() + "/" + batch.count + " locations. Failure breakdown: " + batch.summary);
+            return CompletableFuture.completedFuture(results);
+        }
+
+        List<CompletableFuture<Void>> wave = new ArrayList<>(needed);
+        for (int i = 0; i < needed && batch.attemptsLeft > 0; i++) {
+            batch.attemptsLeft--;
+            int[] column = pickColumn(batch.area);
+            final int x = column[0];
+            final int z = column[1];
+            if (Math.abs(x) > 10_000_000 || Math.abs(z) > 10_000_000) continue;
+            if (!batch.visitedChunks.add(((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL))) continue;
+
+            wave.add(PaperLib.getChunkAtAsync(world, x >> 4, z >> 4, batch.generateChunks)
+                    .thenAccept(chunk -> scanBatchChunk(batch, chunk, x, z))
+                    .exceptionally(throwable -> {
+                        plugin.debug("Batched search failed to load chunk at " + (x >> 4) + ", " + (z >> 4) + " in " + world.getName() + ": " + throwable.getMessage());
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(wave.toArray(new CompletableFuture[0])).thenCompose(v -> searchBatch(batch));
+    }
+
+    private void scanBatchChunk(BatchSearch batch, Chunk chunk, int x, int z) {
+        SearchSummary local = new SearchSummary();
+        try {
+            if (chunk == null) {
+                local.increment(FailureReason.UNKNOWN);
+                return;
+            }
+            WorldBorder border = chunk.getWorld().getWorldBorder();
+            LandingLeaseManager landingLeases = plugin.getLandingLeaseManager();
+            for (int i = 0; i < BATCH_COLUMNS_PER_CHUNK; i++) {
+                int columnX = i == 0 ? x : (chunk.getX() << 4) + ThreadLocalRandom.current().nextInt(16);
+                int columnZ = i == 0 ? z : (chunk.getZ() << 4) + ThreadLocalRandom.current().nextInt(16);
+                if (i > 0 && !batch.area.contains(columnX, columnZ)) continue;
+
+                Optional<Location> safeSpot = findSafeLocationAt(chunk, columnX, columnZ, local);
+                if (safeSpot.isEmpty() || !border.isInside(safeSpot.get())) continue;
+                if (!landingLeases.isClear(safeSpot.get())) {
+                    local.increment(FailureReason.NEARBY_LANDING);
+                    continue;
+                }
+                if (batch.offer(safeSpot.get())) {
+                    return;
+                }
+            }
+        } finally {
+            batch.record(local);
+        }
+    }
+
+    private WorldType resolveWorldType(World world) {
+        WorldType configuredType = worldTypes.get(world.getName());
+        if (configuredType != null) {
+            return configuredType;
+        }
+        if (world.getEnvironment() == World.Environment.NETHER) {
+            return WorldType.NETHER;
+        } else if (world.getEnvironment() == World.Environment.THE_END) {
+            return WorldType.THE_END;
+        }
+        return WorldType.NORMAL;
+    }
+
+    public Optional<Location> findSafeLocationInChunk(Chunk chunk) {
+        int x = (chunk.getX() << 4) + ThreadLocalRandom.current().nextInt(16);
+        int z = (chunk.getZ() << 4) + ThreadLocalRandom.current().nextInt(16);
+        return findSafeLocationAt(chunk, x, z);
+    }
+
+    public Optional<Location> findSafeLocationAt(Chunk chunk, int x, int z) {
+        return findSafeLocationAt(chunk, x, z, new SearchSummary());
+    }
+
+    private Optional<Location> findSafeLocationAt(Chunk chunk, int x, int z, SearchSummary summary) {
+        World world = chunk.getWorld();
+
+        WorldType type = resolveWorldType(world);
+        Optional<Location> safeSpot = switch (type) {
+            case NETHER -> findSafeInNether(chunk, x, z, summary);
+            case THE_END -> findSafeInEnd(chunk, x, z, summary);
+            default -> findSafeInNormal(chunk, x, z, summary);
+        };
+        if (safeSpot.isEmpty() || !SafetyValidator.isLocationAbsolutelySafe(safeSpot.get())) {
+            return Optional.empty();
+        }
+
+        double y = safeSpot.get().getY();
+        if ((type == WorldType.NETHER || world.getEnvironment() == World.Environment.NETHER) && y >= 126.0) {
+            return Optional.empty();
+        }
+        if (world.getEnvironment() == World.Environment.THE_END && (y < 10 || y > 120)) {
+            return Optional.empty();
+        }
+        if (world.getEnvironment() == World.Environment.NORMAL && (y >= 127 || y < world.getMinHeight() + 5)) {
+            return Optional.empty();
+        }
+        return safeSpot;
+    }
+
     private Optional<Location> findSafeInNormal(Chunk chunk, int x, int z, SearchSummary summary) {
         if (chunk.getWorld().getEnvironment() == World.Environment.NETHER) {
             plugin.getLogger().severe("╔══════════════════════════════════════════════════════════╗");
@@ -160,6 +160,26 @@ public class PlaceholderAPIHook extends PlaceholderExpansion {
                     if (plugin.getRtpZoneManager() == null) return "None";
                     String zoneName = plugin.getRtpZoneManager().getPlayerZone(player);
                     return zoneName != null ? zoneName : "None";
+
+                case "queue_size":
+                    if (plugin.getTeleportQueueManager() == null) return "0";
+                    return String.valueOf(plugin.getTeleportQueueManager().getQueueSize());
+
+                case "queue_position":
+                    if (plugin.getTeleportQueueManager() == null) return "0";
+                    return plugin.getTeleportQueueManager().getQueuePosition(player.getUniqueId())
+                            .map(position -> String.valueOf(position.position()))
+                            .orElse("0");
+
+                case "queue_eta":
+                    if (plugin.getTeleportQueueManager() == null) return "0s";
+                    return plugin.getTeleportQueueManager().getQueuePosition(player.getUniqueId())
+                            .map(position -> TimeUtils.formatDuration((int) Math.ceil(position.etaMillis() / 1000.0)))
+                            .orElse("0s");
+
+                case "queue_rejected":
+                    if (plugin.getTeleportQueueManager() == null) return "0";
+                    return String.valueOf(plugin.getTeleportQueueManager().getMetrics().rejected());
                     
                 default:
                     return null;
@@ -21,6 +21,7 @@ public class ConfirmationManager {
         plugin.getFoliaScheduler().runAtEntityLater(player, () -> {
             if (pendingConfirmations.containsKey(player.getUniqueId())) {
                 pendingConfirmations.remove(player.getUniqueId());
+                plugin.getLocationReservationManager().discard(player);
                 plugin.getLocaleManager().sendMessage(player, "teleport.cancelled");
             }
         }, 30 * 20L);
@@ -60,18 +60,42 @@ public class CrossServerManager {
     public void sendFindLocationRequest(Player player, String targetServer, String targetWorldName, Optional<Integer> minRadius, Optional<Integer> maxRadius, String[] args) {
         plugin.debug("Preparing to send FindLocationRequest for " + player.getName() + " to server " + targetServer);
         String argsString = String.join(" ", args);
-        
+
+        SharedLocationPoolManager sharedPool = plugin.getSharedLocationPoolManager();
+        if (sharedPool != null && sharedPool.isEnabled() && targetWorldName != null && !targetWorldName.isEmpty()
+                && minRadius.isEmpty() && maxRadius.isEmpty()) {
+            String resolvedWorldName = plugin.getConfigManager().resolveWorldAlias(targetWorldName);
+            sharedPool.claim(targetServer, resolvedWorldName).thenAccept(claimed -> {
+                if (claimed.isPresent()) {
+                    plugin.debug("Claimed shared pool location on " + targetServer + ":" + resolvedWorldName + " for " + player.getName() + ", skipping remote search");
+                    SharedLocationPoolManager.SharedLocation location = claimed.get();
+                    plugin.getDatabaseManager().createCompletedTeleportRequest(player.getUniqueId(), plugin.getConfigManager().getProxyThisServerName(), targetServer, argsString,
+                                    location.worldName(), location.x(), location.y(), location.z(), location.yaw(), location.pitch(), "INDIVIDUAL")
+                            .whenComplete((result, throwable) -> handleRequestCreated(player, targetServer, throwable));
+                } else {
+                    createSearchRequest(player, targetServer, targetWorldName, minRadius, maxRadius, argsString);
+                }
+            });
+            return;
+        }
+
+        createSearchRequest(player, targetServer, targetWorldName, minRadius, maxRadius, argsString);
+    }
+
+    private void createSearchRequest(Player player, String targetServer, String targetWorldName, Optional<Integer> minRadius, Optional<Integer> maxRadius, String argsString) {
         plugin.getDatabaseManager().createTeleportRequest(player.getUniqueId(), plugin.getConfigManager().getProxyThisServerName(), targetServer, argsString, targetWorldName, minRadius, maxRadius, "INDIVIDUAL")
-                .whenComplete((result, throwable) -> {
-                    if (throwable != null) {
-                        plugin.getLogger().severe("Failed to create cross-server teleport request for " + player.getName() + ": " + throwable.getMessage());
-                        plugin.getLocaleManager().sendMessage(player, "proxy.request_failed");
-                        plugin.getCooldownManager().clearCooldown(player.getUniqueId());
-                    } else {
-                        plugin.debug("Cross-server teleport request created successfully for " + player.getName());
-                        startQueueTimer(player, targetServer);
-                    }
-                });
+                .whenComplete((result, throwable) -> handleRequestCreated(player, targetServer, throwable));
+    }
+
+    private void handleRequestCreated(Player player, String targetServer, Throwable throwable) {
+        if (throwable != null) {
+            plugin.getLogger().severe("Failed to create cross-server teleport request for " + player.getName() + ": " + throwable.getMessage());
+            plugin.getLocaleManager().sendMessage(player, "proxy.request_failed");
+            plugin.getCooldownManager().clearCooldown(player.getUniqueId());
+        } else {
+            plugin.debug("Cross-server teleport request created successfully for " + player.getName());
+            startQueueTimer(player, targetServer);
+        }
     }
 
     public void sendGroupFindLocationRequest(List<Player> players, String targetServer, Optional<Integer> minRadius, Optional<Integer> maxRadius) {
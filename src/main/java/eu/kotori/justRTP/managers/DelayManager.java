@@ -50,6 +50,7 @@ public class DelayManager {
     public void cancelDelay(Player player) {
         CancellableTask task = delayedTasks.remove(player.getUniqueId());
         initialLocations.remove(player.getUniqueId());
+        plugin.getLocationReservationManager().discard(player);
         if (task != null) {
             if (!task.isCancelled()) {
                 task.cancel();
@@ -77,6 +77,19 @@ public class EffectsManager {
     ));
     }
 
+    public void sendInQueueActionBar(Player player, int position, int queueSize, long etaMillis) {
+        ConfigurationSection cs = plugin.getConfig().getConfigurationSection("effects.in_queue_action_bar");
+        if (cs == null || !cs.getBoolean("enabled", false)) return;
+        String format = cs.getString("text", "<gray>You are in the queue... Teleporting soon!</gray>");
+        if(format.isBlank()) return;
+        int etaSeconds = (int) Math.ceil(etaMillis / 1000.0);
+        player.sendActionBar(mm.deserialize(format,
+            Placeholder.unparsed("position", String.valueOf(position)),
+            Placeholder.unparsed("queue_size", String.valueOf(queueSize)),
+            Placeholder.unparsed("eta", eu.kotori.justRTP.utils.TimeUtils.formatDuration(etaSeconds))
+        ));
+    }
+
     public void clearActionBar(Player player) {
         player.sendActionBar(Component.empty());
     }
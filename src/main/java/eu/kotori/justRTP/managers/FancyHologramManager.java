@@ -7,23 +7,53 @@ import eu.kotori.justRTP.JustRTP;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-public class FancyHologramManager {
+public class FancyHologramManager implements Listener {
+
+    private static class Audience {
+        final Location location;
+        final double rangeSquared;
+        final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
+
+        Audience(Location location, int viewDistance) {
+            this.location = location.clone();
+            double range = viewDistance + 16.0;
+            this.rangeSquared = range * range;
+        }
+
+        boolean isInRange(Location other) {
+            return other.getWorld() != null && other.getWorld().equals(location.getWorld())
+                    && other.distanceSquared(location) <= rangeSquared;
+        }
+    }
     
     private final JustRTP plugin;
     private FancyHologramsPlugin fancyHologramsPlugin;
     private de.oliver.fancyholograms.api.HologramManager hologramManager;
     private final Map<String, Hologram> activeHolograms = new ConcurrentHashMap<>();
     private final Map<String, List<String>> hologramTemplates = new ConcurrentHashMap<>();
+    private final Map<String, Audience> audiences = new ConcurrentHashMap<>();
+    private boolean listenerRegistered = false;
     private FileConfiguration hologramsConfig;
     private boolean available = false;
 
@@ -42,6 +72,10 @@ public class FancyHologramManager {
                 if (fancyHologramsPlugin != null) {
                     this.hologramManager = fancyHologramsPlugin.getHologramManager();
                     this.available = true;
+                    if (!listenerRegistered) {
+                        Bukkit.getPluginManager().registerEvents(this, plugin);
+                        listenerRegistered = true;
+                    }
                     plugin.getLogger().info("FancyHolograms detected! Using FancyHolograms for zone holograms.");
                 }
             }
@@ -76,7 +110,7 @@ public class FancyHologramManager {
                 plugin.debug("FancyHologram already exists for zone: " + zoneId + ", updating reference");
                 activeHolograms.put(zoneId, existingHologram);
                 
-                existingHologram.showHologram(Bukkit.getOnlinePlayers());
+                resetAudience(zoneId, existingHologram, location, viewDistance);
                 existingHologram.forceUpdate();
                 
                 if (!hologramTemplates.containsKey(zoneId)) {
@@ -111,7 +145,7 @@ public class FancyHologramManager {
             Hologram hologram = hologramManager.create(data);
             if (hologram != null) {
                 hologram.createHologram();
-                hologram.showHologram(Bukkit.getOnlinePlayers());
+                resetAudience(zoneId, hologram, location, viewDistance);
                 
                 hologramManager.addHologram(hologram);
                 
@@ -381,10 +415,11 @@ public class FancyHologramManager {
             String hologramName = "justrtp_zone_" + zoneId;
             boolean removed = false;
             
+            Audience audience = audiences.remove(zoneId);
             Hologram hologram = activeHolograms.remove(zoneId);
             if (hologram != null) {
                 try {
-                    hologram.hideHologram(Bukkit.getOnlinePlayers());
+                    hologram.hideHologram(getAudiencePlayers(audience, hologram));
                     hologram.deleteHologram();
                     hologramManager.removeHologram(hologram);
                     removed = true;
@@ -397,7 +432,7 @@ public class FancyHologramManager {
             try {
                 Hologram persistentHologram = hologramManager.getHologram(hologramName).orElse(null);
                 if (persistentHologram != null) {
-                    persistentHologram.hideHologram(Bukkit.getOnlinePlayers());
+                    persistentHologram.hideHologram(getAudiencePlayers(audience, persistentHologram));
                     persistentHologram.deleteHologram();
                     hologramManager.removeHologram(persistentHologram);
                     removed = true;
@@ -430,6 +465,7 @@ public class FancyHologramManager {
             }
             activeHolograms.clear();
             hologramTemplates.clear(); 
+            audiences.clear();
             plugin.debug("Removed all FancyHolograms and cleared template cache");
         } catch (Exception e) {
             plugin.debug("Failed to remove all holograms: " + e.getMessage());
@@ -439,6 +475,7 @@ public class FancyHologramManager {
     public void reload() {
         activeHolograms.clear();
         hologramTemplates.clear();
+        audiences.clear();
         initialize();
         loadExistingHolograms();
     }
@@ -481,6 +518,7 @@ public class FancyHologramManager {
     public void shutdown() {
         activeHolograms.clear();
         hologramTemplates.clear();
+        audiences.clear();
         available = false;
     }
 
@@ -540,6 +578,105 @@ public class FancyHologramManager {
         }
     }
 
+    private void resetAudience(String zoneId, Hologram hologram, Location location, int viewDistance) {
+        Audience previous = audiences.get(zoneId);
+        Audience audience = new Audience(location, viewDistance);
+        List<Player> nearby = new ArrayList<>();
+        if (location.getWorld() != null) {
+            for (Player player : location.getWorld().getPlayers()) {
+                if (audience.isInRange(player.getLocation())) {
+                    nearby.add(player);
+                    audience.viewers.add(player.getUniqueId());
+                }
+            }
+        }
+        audiences.put(zoneId, audience);
+
+        if (previous != null) {
+            List<Player> leaving = new ArrayList<>();
+            for (UUID viewerId : previous.viewers) {
+                Player player = Bukkit.getPlayer(viewerId);
+                if (player != null && !audience.viewers.contains(viewerId)) {
+                    leaving.add(player);
+                }
+            }
+            if (!leaving.isEmpty()) {
+                hologram.hideHologram(leaving);
+            }
+        }
+        hologram.showHologram(nearby);
+        plugin.debug("FancyHologram audience for zone " + zoneId + ": " + nearby.size() + " player(s) in range");
+    }
+
+    private Collection<? extends Player> getAudiencePlayers(Audience audience, Hologram hologram) {
+        if (audience != null) {
+            List<Player> players = new ArrayList<>();
+            for (UUID viewerId : audience.viewers) {
+                Player player = Bukkit.getPlayer(viewerId);
+                if (player != null) {
+                    players.add(player);
+                }
+            }
+            return players;
+        }
+        Location location = hologram.getData().getLocation();
+        return location != null && location.getWorld() != null ? location.getWorld().getPlayers() : Bukkit.getOnlinePlayers();
+    }
+
+    private void updateAudiences(Player player, Location location) {
+        if (!isAvailable() || audiences.isEmpty()) return;
+        UUID playerId = player.getUniqueId();
+        for (Map.Entry<String, Audience> entry : audiences.entrySet()) {
+            Audience audience = entry.getValue();
+            boolean inRange = player.isOnline() && audience.isInRange(location);
+            if (inRange == audience.viewers.contains(playerId)) continue;
+
+            Hologram hologram = activeHolograms.get(entry.getKey());
+            if (hologram == null) continue;
+            if (inRange) {
+                audience.viewers.add(playerId);
+                hologram.showHologram(player);
+            } else {
+                audience.viewers.remove(playerId);
+                hologram.hideHologram(player);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if ((from.getBlockX() >> 4) == (to.getBlockX() >> 4) && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4)) return;
+        updateAudiences(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (audiences.isEmpty()) return;
+        Player player = event.getPlayer();
+        plugin.getFoliaScheduler().runAtEntityLater(player, () -> updateAudiences(player, player.getLocation()), 1L);
+    }
+
+    @EventHandler
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        updateAudiences(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        plugin.getFoliaScheduler().runAtEntityLater(player, () -> updateAudiences(player, player.getLocation()), 20L);
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        for (Audience audience : audiences.values()) {
+            audience.viewers.remove(playerId);
+        }
+    }
+
     private List<String> loadTemplateLines(String zoneId) {
         List<String> lines = new ArrayList<>();
         
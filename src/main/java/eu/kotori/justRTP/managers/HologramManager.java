@@ -1,6 +1,8 @@
 package eu.kotori.justRTP.managers;
 
 import eu.kotori.justRTP.JustRTP;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import org.bukkit.*;
@@ -32,6 +34,8 @@ public class HologramManager {
     private final Map<String, HologramInstance> activeHolograms = new ConcurrentHashMap<>();
     private final Map<String, Boolean> hologramCreationLocks = new ConcurrentHashMap<>();
     private final String HOLOGRAM_METADATA_KEY = "justrtp_hologram";
+    // a text display line is 10 font pixels at 40 pixels per block
+    private static final double TEXT_LINE_HEIGHT = 0.25;
     
     private PacketHologramManager packetHologramManager;
     private FancyHologramManager fancyHologramManager;
@@ -47,10 +51,16 @@ public class HologramManager {
 
     private static class HologramInstance {
         final List<TextDisplay> displays;
+        final boolean singleEntity;
+        final int gapLines;
+        final double topOffset;
         final AtomicLong particleTick = new AtomicLong(0);
 
-        HologramInstance(List<TextDisplay> displays) {
+        HologramInstance(List<TextDisplay> displays, boolean singleEntity, int gapLines, double topOffset) {
             this.displays = displays;
+            this.singleEntity = singleEntity;
+            this.gapLines = gapLines;
+            this.topOffset = topOffset;
         }
     }
 
@@ -282,34 +292,46 @@ public class HologramManager {
                 List<String> lines = hologramsConfig.getStringList("hologram-settings.lines");
                 double lineSpacing = hologramsConfig.getDouble("hologram-settings.line-spacing", 0.35);
                 float scale = (float) hologramsConfig.getDouble("hologram-settings.scale", 1.0);
+                boolean singleEntity = hologramsConfig.getBoolean("hologram-settings.single-entity", false);
                 Location textLocation = location.clone();
 
                 List<TextDisplay> textDisplays = new ArrayList<>();
                 List<String> entityUuids = new ArrayList<>();
 
-                for (String line : lines) {
+                int gapLines = 1;
+                double topOffset = 0;
+                if (singleEntity) {
+                    // line-spacing is rounded to whole text lines; the text grows up from the entity, so the
+                    // entity sits below the zone point by the rendered height and the top line stays in place
+                    double lineHeight = TEXT_LINE_HEIGHT * scale;
+                    gapLines = Math.max(1, (int) Math.round(lineSpacing / lineHeight));
+                    topOffset = lineHeight * gapLines * Math.max(0, trimTrailingBlankLines(lines).size() - 1);
+                    Location bottomLine = location.clone().subtract(0, topOffset, 0);
+                    final int finalGapLines = gapLines;
+                    TextDisplay display = world.spawn(bottomLine, TextDisplay.class, d -> {
+                        applyDisplaySettings(d, scale, viewDistance, zoneId);
+                        d.setAlignment(TextDisplay.TextAlignment.CENTER);
+                        d.setLineWidth(Integer.MAX_VALUE);
+                        d.text(renderCombined(zoneId, lines, "", finalGapLines));
+                    });
+                    textDisplays.add(display);
+                    entityUuids.add(display.getUniqueId().toString());
+                }
+
+                for (String line : singleEntity ? List.<String>of() : lines) {
                     if (line.isEmpty()) {
                         textLocation.subtract(0, lineSpacing, 0);
                         continue;
                     }
                     TextDisplay display = world.spawn(textLocation, TextDisplay.class, d -> {
-                        Transformation transformation = d.getTransformation();
-                        transformation.getScale().set(new Vector3f(scale, scale, scale));
-                        d.setTransformation(transformation);
-                        d.setBillboard(Display.Billboard.CENTER);
-                        d.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
-                        d.setShadowed(true);
-                        d.setPersistent(false);
-
-                        d.setViewRange(viewDistance);
+                        applyDisplaySettings(d, scale, viewDistance, zoneId);
                         d.text(MiniMessage.miniMessage().deserialize(line, Placeholder.unparsed("zone_id", zoneId), Placeholder.unparsed("time", "")));
-                        d.setMetadata(HOLOGRAM_METADATA_KEY, new FixedMetadataValue(plugin, zoneId));
                     });
                     textDisplays.add(display);
                     entityUuids.add(display.getUniqueId().toString());
                     textLocation.subtract(0, lineSpacing, 0);
                 }
-                activeHolograms.put(zoneId.toLowerCase(), new HologramInstance(textDisplays));
+                activeHolograms.put(zoneId.toLowerCase(), new HologramInstance(textDisplays, singleEntity, gapLines, topOffset));
                 displayEntitiesConfig.set("zones." + zoneId.toLowerCase(), entityUuids);
                 saveDisplayEntities();
             } finally {
@@ -318,6 +340,38 @@ public class HologramManager {
         });
     }
 
+    private void applyDisplaySettings(TextDisplay display, float scale, int viewDistance, String zoneId) {
+        Transformation transformation = display.getTransformation();
+        transformation.getScale().set(new Vector3f(scale, scale, scale));
+        display.setTransformation(transformation);
+        display.setBillboard(Display.Billboard.CENTER);
+        display.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
+        display.setShadowed(true);
+        display.setPersistent(false);
+
+        display.setViewRange(viewDistance);
+        display.setMetadata(HOLOGRAM_METADATA_KEY, new FixedMetadataValue(plugin, zoneId));
+    }
+
+    private List<String> trimTrailingBlankLines(List<String> lines) {
+        int end = lines.size();
+        while (end > 0 && lines.get(end - 1).isEmpty()) {
+            end--;
+        }
+        return lines.subList(0, end);
+    }
+
+    // all lines as one component, gapLines newlines apart; blank lines keep their gap
+    private Component renderCombined(String zoneId, List<String> lines, String time, int gapLines) {
+        List<Component> rendered = new ArrayList<>();
+        for (String line : trimTrailingBlankLines(lines)) {
+            rendered.add(line.isEmpty() ? Component.empty() : MiniMessage.miniMessage().deserialize(line,
+                    Placeholder.unparsed("zone_id", zoneId),
+                    Placeholder.unparsed("time", time)));
+        }
+        return Component.join(JoinConfiguration.separator(Component.text("\n".repeat(gapLines))), rendered);
+    }
+
     public void updateHologramTime(String zoneId, int time) {
         if (useFancyHolograms && fancyHologramManager != null) {
             fancyHologramManager.updateHologramTime(zoneId, eu.kotori.justRTP.utils.TimeUtils.formatDuration(time));
@@ -339,11 +393,19 @@ public class HologramManager {
             return;
         }
 
-        Location hologramCenter = instance.displays.get(0).getLocation();
+        Location hologramCenter = instance.displays.get(0).getLocation().add(0, instance.topOffset, 0);
 
         String timeString = String.valueOf(time);
         
         List<String> lines = hologramsConfig.getStringList("hologram-settings.lines");
+        if (instance.singleEntity) {
+            TextDisplay display = instance.displays.get(0);
+            if (display != null && display.isValid()) {
+                display.text(renderCombined(zoneId, lines, eu.kotori.justRTP.utils.TimeUtils.formatDuration(time), instance.gapLines));
+            }
+            spawnParticles(hologramCenter, instance);
+            return;
+        }
         int displayIndex = 0;
         for (String line : lines) {
             if (displayIndex >= instance.displays.size()) break;
@@ -382,11 +444,19 @@ public class HologramManager {
             return;
         }
 
-        Location hologramCenter = instance.displays.get(0).getLocation();
+        Location hologramCenter = instance.displays.get(0).getLocation().add(0, instance.topOffset, 0);
 
         String progressText = "TELEPORTING...";
         
         List<String> lines = hologramsConfig.getStringList("hologram-settings.lines");
+        if (instance.singleEntity) {
+            TextDisplay display = instance.displays.get(0);
+            if (display != null && display.isValid()) {
+                display.text(renderCombined(zoneId, lines, progressText, instance.gapLines));
+            }
+            spawnParticles(hologramCenter, instance);
+            return;
+        }
         int displayIndex = 0;
         for (String line : lines) {
             if (displayIndex >= instance.displays.size()) break;
@@ -0,0 +1,180 @@
+package eu.kotori.justRTP.managers;
+
+import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.utils.ServerLoad;
+import eu.kotori.justRTP.utils.task.CancellableTask;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JoinLocationPoolManager {
+    private record Claim(Location location, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    private final JustRTP plugin;
+    private final Queue<Location> pool = new ConcurrentLinkedQueue<>();
+    private final Map<UUID, Claim> claims = new ConcurrentHashMap<>();
+    private final Deque<Long> recentJoins = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger poolSize = new AtomicInteger();
+    private final AtomicInteger activeSearches = new AtomicInteger();
+    private CancellableTask refillTask;
+    private volatile boolean enabled;
+    private volatile String worldName;
+    private int minSize;
+    private int maxSize;
+    private long joinWindowMillis;
+    private int maxConcurrentSearches;
+    private long claimMillis;
+    private double pauseAboveMspt;
+
+    public JoinLocationPoolManager(JustRTP plugin) {
+        this.plugin = plugin;
+    }
+
+    public void initialize() {
+        shutdown();
+        this.enabled = plugin.getConfig().getBoolean("first_join_rtp.enabled", false)
+                && plugin.getConfig().getBoolean("first_join_rtp.pool.enabled", true);
+        if (!enabled) {
+            plugin.debug("First-join location pool is disabled.");
+            return;
+        }
+
+        this.worldName = plugin.getConfig().getString("first_join_rtp.target_world", "world");
+        this.minSize = Math.max(0, plugin.getConfig().getInt("first_join_rtp.pool.min_size", 5));
+        this.maxSize = Math.max(minSize, plugin.getConfig().getInt("first_join_rtp.pool.max_size", 50));
+        this.joinWindowMillis = Math.max(10, plugin.getConfig().getInt("first_join_rtp.pool.join_window_seconds", 60)) * 1000L;
+        this.maxConcurrentSearches = Math.max(1, plugin.getConfig().getInt("first_join_rtp.pool.max_concurrent_searches", 3));
+        this.claimMillis = Math.max(10, plugin.getConfig().getInt("first_join_rtp.pool.claim_seconds", 60)) * 1000L;
+        this.pauseAboveMspt = plugin.getConfig().getDouble("first_join_rtp.pool.pause_above_mspt", 40.0);
+        long interval = Math.max(1L, plugin.getConfig().getLong("first_join_rtp.pool.refill_interval_ticks", 20L));
+
+        refillTask = plugin.getFoliaScheduler().runTimer(this::refill, 100L, interval);
+        plugin.getLogger().info("First-join location pool enabled for world '" + worldName + "' (" + minSize + "-" + maxSize + " locations).");
+    }
+
+    public void shutdown() {
+        if (refillTask != null && !refillTask.isCancelled()) {
+            refillTask.cancel();
+        }
+        refillTask = null;
+        enabled = false;
+        pool.clear();
+        poolSize.set(0);
+        claims.clear();
+        recentJoins.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPoolSize() {
+        return poolSize.get();
+    }
+
+    public int getTargetSize() {
+        long cutoff = System.currentTimeMillis() - joinWindowMillis;
+        while (true) {
+            Long oldest = recentJoins.peekFirst();
+            if (oldest == null || oldest >= cutoff || !recentJoins.remove(oldest)) {
+                break;
+            }
+        }
+        return Math.min(maxSize, minSize + recentJoins.size());
+    }
+
+    // async pre-login, first joins only: hold a pooled location until the player is in
+    public void claim(UUID playerUUID) {
+        if (!enabled) {
+            return;
+        }
+        recentJoins.addLast(System.currentTimeMillis());
+        pollLeased().ifPresent(location -> {
+            claims.put(playerUUID, new Claim(location, System.currentTimeMillis() + claimMillis));
+            plugin.debug("[JoinPool] Claimed location in " + worldName + " for joining player " + playerUUID);
+        });
+    }
+
+    public Optional<Location> take(Player player, World world) {
+        if (!enabled || player == null || world == null || !world.getName().equals(worldName)) {
+            return Optional.empty();
+        }
+        Claim claim = claims.remove(player.getUniqueId());
+        if (claim != null && !claim.isExpired()) {
+            return Optional.of(claim.location());
+        }
+        return pollLeased();
+    }
+
+    private Optional<Location> pollLeased() {
+        LandingLeaseManager landingLeases = plugin.getLandingLeaseManager();
+        Location location;
+        while ((location = pool.poll()) != null) {
+            poolSize.decrementAndGet();
+            if (landingLeases == null || landingLeases.tryLease(location)) {
+                return Optional.of(location);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void offer(Location location) {
+        if (poolSize.incrementAndGet() > maxSize) {
+            poolSize.decrementAndGet();
+            return;
+        }
+        pool.offer(location);
+    }
+
+    private void refill() {
+        claims.forEach((uuid, claim) -> {
+            if (claim.isExpired() && claims.remove(uuid, claim)) {
+                offer(claim.location());
+            }
+        });
+
+        World world = plugin.getServer().getWorld(worldName);
+        if (world == null || ServerLoad.isAboveMspt(pauseAboveMspt)) {
+            return;
+        }
+        int target = getTargetSize();
+        while (poolSize.get() + activeSearches.get() < target && tryAcquireSearch()) {
+            plugin.getRtpService().findSafeLocationForCache(world).whenComplete((locationOpt, throwable) -> {
+                activeSearches.decrementAndGet();
+                if (throwable != null) {
+                    plugin.debug("[JoinPool] Search failed in " + world.getName() + ": " + throwable.getMessage());
+                    return;
+                }
+                if (enabled && world.getName().equals(worldName)) {
+                    locationOpt.ifPresent(this::offer);
+                }
+            });
+        }
+    }
+
+    private boolean tryAcquireSearch() {
+        while (true) {
+            int current = activeSearches.get();
+            if (current >= maxConcurrentSearches) {
+                return false;
+            }
+            if (activeSearches.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
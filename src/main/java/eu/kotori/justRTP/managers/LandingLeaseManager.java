@@ -0,0 +1,131 @@
+package eu.kotori.justRTP.managers;
+
+import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.utils.task.CancellableTask;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LandingLeaseManager {
+    private record Lease(int x, int z, long expiresAt) {}
+
+    private final JustRTP plugin;
+    private final Map<UUID, Map<Long, List<Lease>>> grids = new ConcurrentHashMap<>();
+    private CancellableTask purgeTask;
+    private boolean enabled;
+    private int minDistance;
+    private long leaseMillis;
+
+    public LandingLeaseManager(JustRTP plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    public void reload() {
+        this.enabled = plugin.getConfig().getBoolean("performance.landing_separation.enabled", false);
+        this.minDistance = Math.max(1, plugin.getConfig().getInt("performance.landing_separation.min_distance", 48));
+        this.leaseMillis = Math.max(1, plugin.getConfig().getInt("performance.landing_separation.lease_seconds", 30)) * 1000L;
+        grids.clear();
+
+        if (purgeTask != null && !purgeTask.isCancelled()) {
+            purgeTask.cancel();
+        }
+        purgeTask = enabled ? plugin.getFoliaScheduler().runTimer(this::purgeExpired, 400L, 400L) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMinDistance() {
+        return minDistance;
+    }
+
+    public boolean isClear(Location location) {
+        if (!enabled || location == null || location.getWorld() == null) return true;
+        Map<Long, List<Lease>> grid = grids.get(location.getWorld().getUID());
+        if (grid == null) return true;
+        synchronized (grid) {
+            return !hasNearbyLease(grid, location.getBlockX(), location.getBlockZ(), System.currentTimeMillis());
+        }
+    }
+
+    public boolean tryLease(Location location) {
+        if (!enabled || location == null || location.getWorld() == null) return true;
+        Map<Long, List<Lease>> grid = grids.computeIfAbsent(location.getWorld().getUID(), k -> new HashMap<>());
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        long now = System.currentTimeMillis();
+        synchronized (grid) {
+            if (hasNearbyLease(grid, x, z, now)) {
+                return false;
+            }
+            grid.computeIfAbsent(cellKey(Math.floorDiv(x, minDistance), Math.floorDiv(z, minDistance)), k -> new ArrayList<>(2))
+                    .add(new Lease(x, z, now + leaseMillis));
+            return true;
+        }
+    }
+
+    public int getActiveLeaseCount(World world) {
+        Map<Long, List<Lease>> grid = world != null ? grids.get(world.getUID()) : null;
+        if (grid == null) return 0;
+        long now = System.currentTimeMillis();
+        synchronized (grid) {
+            int count = 0;
+            for (List<Lease> leases : grid.values()) {
+                for (Lease lease : leases) {
+                    if (lease.expiresAt() > now) count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private boolean hasNearbyLease(Map<Long, List<Lease>> grid, int x, int z, long now) {
+        int cellX = Math.floorDiv(x, minDistance);
+        int cellZ = Math.floorDiv(z, minDistance);
+        long minDistanceSquared = (long) minDistance * minDistance;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                List<Lease> leases = grid.get(cellKey(cellX + dx, cellZ + dz));
+                if (leases == null) continue;
+                for (Lease lease : leases) {
+                    if (lease.expiresAt() <= now) continue;
+                    long offX = lease.x() - x;
+                    long offZ = lease.z() - z;
+                    if (offX * offX + offZ * offZ < minDistanceSquared) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        for (Map<Long, List<Lease>> grid : grids.values()) {
+            synchronized (grid) {
+                Iterator<List<Lease>> iterator = grid.values().iterator();
+                while (iterator.hasNext()) {
+                    List<Lease> leases = iterator.next();
+                    leases.removeIf(lease -> lease.expiresAt() <= now);
+                    if (leases.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
@@ -1,6 +1,8 @@
 package eu.kotori.justRTP.managers;
 import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.utils.ServerLoad;
 import eu.kotori.justRTP.utils.task.CancellableTask;
+import io.papermc.lib.PaperLib;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
@@ -11,18 +13,29 @@ import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 public class LocationCacheManager {
     private final JustRTP plugin;
     private final Map<String, ConcurrentLinkedQueue<Location>> locationCache = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> isRefilling = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> activeWorkers = new ConcurrentHashMap<>();
+    private final AtomicInteger activeSearches = new AtomicInteger(0);
     private final Map<String, Long> failedWorldsCooldown = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> ticketedChunks = new ConcurrentHashMap<>();
     private CancellableTask refillTask;
+    private volatile boolean running;
     private boolean cacheEnabled;
     private int cacheSize;
+    private int workersPerWorld;
+    private int maxConcurrentSearches;
+    private double pauseAboveMspt;
+    private boolean chunkTicketsEnabled;
+    private int ticketsPerWorld;
     private final File cacheFile;
     private FileConfiguration cacheConfig;
     private static final long COOLDOWN_PERIOD = 60000;
+    private static final double ESTIMATED_MB_PER_TICKET = 0.5;
+    private static final long TICKET_RELEASE_DELAY = 100L;
 
     public LocationCacheManager(JustRTP plugin) {
         this.plugin = plugin;
@@ -40,8 +53,10 @@ public class LocationCacheManager {
 
         this.cacheSize = plugin.getConfig().getInt("location_cache.cache_size", 20);
         long interval = plugin.getConfig().getLong("location_cache.refill_interval_seconds", 5) * 20L;
+        this.workersPerWorld = Math.max(1, plugin.getConfig().getInt("location_cache.workers_per_world", 2));
+        this.maxConcurrentSearches = Math.max(1, plugin.getConfig().getInt("location_cache.max_concurrent_searches", 4));
+        this.pauseAboveMspt = plugin.getConfig().getDouble("location_cache.pause_above_mspt", 40.0);
 
-        isRefilling.clear();
         failedWorldsCooldown.clear();
 
         ConfigurationSection cacheWorldsSection = plugin.getConfig().getConfigurationSection("location_cache.worlds");
@@ -50,7 +65,7 @@ public class LocationCacheManager {
                 World world = plugin.getServer().getWorld(worldName);
                 if (world != null && plugin.getRtpService().isRtpEnabled(world)) {
                     locationCache.putIfAbsent(worldName, new ConcurrentLinkedQueue<>());
-                    isRefilling.put(worldName, false);
+                    activeWorkers.putIfAbsent(worldName, new AtomicInteger(0));
                     plugin.debug("Initializing location cache for world: " + worldName + ". Found " + locationCache.get(worldName).size() + " cached locations.");
                 } else {
                     plugin.getLogger().warning("World '" + worldName + "' listed in location_cache.worlds is not loaded or RTP is disabled for it.");
@@ -58,15 +73,27 @@ public class LocationCacheManager {
             }
         }
 
+        this.chunkTicketsEnabled = plugin.getConfig().getBoolean("location_cache.chunk_tickets.enabled", false);
+        if (chunkTicketsEnabled) {
+            int configuredTickets = Math.max(0, plugin.getConfig().getInt("location_cache.chunk_tickets.per_world", 5));
+            double budgetMb = plugin.getConfig().getDouble("location_cache.chunk_tickets.memory_budget_mb", 32.0);
+            int budgetTickets = (int) (budgetMb / ESTIMATED_MB_PER_TICKET / Math.max(1, locationCache.size()));
+            this.ticketsPerWorld = Math.min(configuredTickets, budgetTickets);
+            plugin.debug("Chunk tickets enabled for cached locations: " + ticketsPerWorld + " per world (budget: " + budgetMb + " MB)");
+        }
 
+        running = true;
         startRefillTask(interval);
-        plugin.getLogger().info("Location Cache initialized for " + locationCache.size() + " worlds. Target size per world: " + cacheSize);
+        plugin.getLogger().info("Location Cache initialized for " + locationCache.size() + " worlds. Target size per world: " + cacheSize
+                + ", workers per world: " + workersPerWorld + ", max concurrent searches: " + maxConcurrentSearches);
     }
 
     public void shutdown() {
+        running = false;
         if (refillTask != null) {
             refillTask.cancel();
         }
+        releaseAllChunkTickets();
         if (cacheEnabled) {
             saveCacheToFile();
         }
@@ -172,10 +199,14 @@ public class LocationCacheManager {
     }
 
     private void startRefillTask(long interval) {
+        if (refillTask != null && !refillTask.isCancelled()) {
+            refillTask.cancel();
+        }
         refillTask = plugin.getFoliaScheduler().runTimer(() -> {
             for (String worldName : locationCache.keySet()) {
                 World world = plugin.getServer().getWorld(worldName);
                 if (world != null) {
+                    refreshChunkTickets(world);
                     refillCache(world);
                 }
             }
@@ -195,21 +226,76 @@ public class LocationCacheManager {
             return;
         }
 
-        if (isRefilling.replace(world.getName(), false, true)) {
-            plugin.debug("Starting refill worker for world '" + world.getName() + "'. Current size: " + queue.size() + "/" + cacheSize);
-            fillQueueWorker(world, cacheSize - queue.size());
+        if (ServerLoad.isAboveMspt(pauseAboveMspt)) {
+            plugin.debug("Skipping cache refill for world '" + world.getName() + "' - server MSPT is above " + pauseAboveMspt);
+            return;
+        }
+
+        AtomicInteger workers = activeWorkers.computeIfAbsent(world.getName(), k -> new AtomicInteger(0));
+        int maxWorkers = getWorkersForWorld(world);
+        int started = 0;
+        while (workers.get() < maxWorkers && queue.size() + workers.get() < cacheSize) {
+            if (!tryAcquireSearchSlot()) {
+                break;
+            }
+            workers.incrementAndGet();
+            started++;
+            fillQueueWorker(world);
+        }
+
+        if (started > 0) {
+            plugin.debug("Started " + started + " refill worker(s) for world '" + world.getName() + "'. Current size: " + queue.size() + "/" + cacheSize
+                    + " (active workers: " + workers.get() + ", global searches: " + activeSearches.get() + "/" + maxConcurrentSearches + ")");
         }
     }
 
-    private void fillQueueWorker(World world, int locationsNeeded) {
-        if (locationsNeeded <= 0) {
-            isRefilling.put(world.getName(), false);
-            plugin.debug("Cache for world '" + world.getName() + "' is now full. Stopping worker.");
-            return;
+    private int getWorkersForWorld(World world) {
+        return Math.max(1, plugin.getConfig().getInt("location_cache.worlds." + world.getName() + ".workers", workersPerWorld));
+    }
+
+    private boolean tryAcquireSearchSlot() {
+        while (true) {
+            int current = activeSearches.get();
+            if (current >= maxConcurrentSearches) {
+                return false;
+            }
+            if (activeSearches.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void releaseWorker(World world) {
+        activeSearches.decrementAndGet();
+        AtomicInteger workers = activeWorkers.get(world.getName());
+        if (workers != null && workers.decrementAndGet() == 0) {
+            plugin.debug("All refill workers for world '" + world.getName() + "' have stopped.");
+        }
+    }
+
+    private boolean shouldContinueRefill(World world) {
+        if (!running) return false;
+
+        ConcurrentLinkedQueue<Location> queue = locationCache.get(world.getName());
+        AtomicInteger workers = activeWorkers.get(world.getName());
+        if (queue == null || workers == null) return false;
+
+        if (queue.size() + workers.get() - 1 >= cacheSize) {
+            return false;
+        }
+
+        long lastFailure = failedWorldsCooldown.getOrDefault(world.getName(), 0L);
+        if (System.currentTimeMillis() - lastFailure < COOLDOWN_PERIOD) {
+            return false;
         }
 
+        return !ServerLoad.isAboveMspt(pauseAboveMspt);
+    }
+
+    private void fillQueueWorker(World world) {
         plugin.getRtpService().findSafeLocationForCache(world)
                 .whenCompleteAsync((locationOpt, throwable) -> {
+                    boolean continueWorking = false;
                     try {
                         if (throwable != null) {
                             plugin.getLogger().warning("Exception during location search for '" + world.getName() + "' cache: " + throwable.getMessage());
@@ -221,9 +307,10 @@ public class LocationCacheManager {
                             ConcurrentLinkedQueue<Location> queue = locationCache.get(world.getName());
                             if (queue != null) {
                                 queue.add(locationOpt.get());
+                                refreshChunkTickets(world);
                             }
                             failedWorldsCooldown.remove(world.getName());
-                            plugin.getFoliaScheduler().runAsync(() -> fillQueueWorker(world, locationsNeeded - 1));
+                            continueWorking = shouldContinueRefill(world);
                         } else {
                             plugin.getLogger().warning("Failed to find a safe location for '" + world.getName() + "' cache after many attempts. Pausing searches for this world for 1 minute.");
                             failedWorldsCooldown.put(world.getName(), System.currentTimeMillis());
@@ -232,13 +319,90 @@ public class LocationCacheManager {
                         plugin.getLogger().severe("Unexpected error in fillQueueWorker for '" + world.getName() + "': " + e.getMessage());
                         e.printStackTrace();
                     } finally {
-                        if (throwable != null || !locationOpt.isPresent() || locationsNeeded <= 1) {
-                            isRefilling.put(world.getName(), false);
+                        if (continueWorking) {
+                            plugin.getFoliaScheduler().runAsync(() -> fillQueueWorker(world));
+                        } else {
+                            releaseWorker(world);
                         }
                     }
                 });
     }
 
+    private void refreshChunkTickets(World world) {
+        if (!chunkTicketsEnabled || ticketsPerWorld <= 0) return;
+
+        ConcurrentLinkedQueue<Location> queue = locationCache.get(world.getName());
+        if (queue == null) return;
+
+        Map<Long, Location> desired = new LinkedHashMap<>();
+        for (Location location : queue) {
+            if (desired.size() >= ticketsPerWorld) break;
+            desired.putIfAbsent(getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4), location);
+        }
+
+        Set<Long> current = ticketedChunks.computeIfAbsent(world.getName(), k -> ConcurrentHashMap.newKeySet());
+        List<Long> toAdd = new ArrayList<>();
+        List<Long> toRemove = new ArrayList<>();
+        synchronized (current) {
+            for (Long key : desired.keySet()) {
+                if (current.add(key)) toAdd.add(key);
+            }
+            for (Long key : current) {
+                if (!desired.containsKey(key)) toRemove.add(key);
+            }
+            toRemove.forEach(current::remove);
+        }
+
+        for (Long key : toAdd) {
+            PaperLib.getChunkAtAsync(world, getChunkX(key), getChunkZ(key), false).thenAccept(chunk -> {
+                if (chunk != null && current.contains(key)) {
+                    chunk.addPluginChunkTicket(plugin);
+                }
+            });
+        }
+        for (Long key : toRemove) {
+            plugin.getFoliaScheduler().runLater(() -> releaseChunkTicket(world, key), TICKET_RELEASE_DELAY);
+        }
+    }
+
+    private void releaseChunkTicket(World world, long key) {
+        Set<Long> current = ticketedChunks.get(world.getName());
+        if (current != null && current.contains(key)) {
+            return;
+        }
+        Location chunkLocation = new Location(world, getChunkX(key) << 4, 0, getChunkZ(key) << 4);
+        plugin.getFoliaScheduler().runAtLocation(chunkLocation, () -> world.removePluginChunkTicket(getChunkX(key), getChunkZ(key), plugin));
+    }
+
+    private void releaseAllChunkTickets() {
+        if (ticketedChunks.isEmpty()) return;
+        if (!plugin.isEnabled()) {
+            ticketedChunks.clear();
+            return;
+        }
+        for (Map.Entry<String, Set<Long>> entry : ticketedChunks.entrySet()) {
+            World world = plugin.getServer().getWorld(entry.getKey());
+            if (world == null) continue;
+            for (Long key : entry.getValue()) {
+                Location chunkLocation = new Location(world, getChunkX(key) << 4, 0, getChunkZ(key) << 4);
+                plugin.getFoliaScheduler().runAtLocation(chunkLocation, () -> world.removePluginChunkTicket(getChunkX(key), getChunkZ(key), plugin));
+            }
+        }
+        ticketedChunks.clear();
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+
+    private static int getChunkX(long key) {
+        return (int) key;
+    }
+
+    private static int getChunkZ(long key) {
+        return (int) (key >> 32);
+    }
+
     public Optional<Location> getLocation(World world) {
         if (world == null) {
             plugin.getLogger().log(Level.WARNING, "Attempted to get a cached location for a null world.", new Throwable());
@@ -247,7 +411,53 @@ public class LocationCacheManager {
         if (!cacheEnabled) {
             return Optional.empty();
         }
-        return Optional.ofNullable(locationCache.getOrDefault(world.getName(), new ConcurrentLinkedQueue<>()).poll());
+        ConcurrentLinkedQueue<Location> queue = locationCache.get(world.getName());
+        if (queue == null) {
+            return Optional.empty();
+        }
+
+        LandingLeaseManager landingLeases = plugin.getLandingLeaseManager();
+        int candidates = queue.size();
+        for (int i = 0; i < candidates; i++) {
+            Location location = queue.poll();
+            if (location == null) {
+                break;
+            }
+            if (landingLeases.tryLease(location)) {
+                refreshChunkTickets(world);
+                return Optional.of(location);
+            }
+            queue.add(location);
+        }
+        if (candidates > 0) {
+            plugin.debug("All " + candidates + " cached locations for '" + world.getName() + "' are too close to recent landings.");
+        }
+        return Optional.empty();
+    }
+    
+    public boolean offerLocation(World world, Location location) {
+        if (!cacheEnabled || world == null || location == null) {
+            return false;
+        }
+        ConcurrentLinkedQueue<Location> queue = locationCache.get(world.getName());
+        if (queue == null || queue.size() >= cacheSize) {
+            return false;
+        }
+        queue.add(location);
+        refreshChunkTickets(world);
+        return true;
+    }
+
+    public boolean isCacheFull(World world) {
+        if (!cacheEnabled || world == null) {
+            return false;
+        }
+        ConcurrentLinkedQueue<Location> queue = locationCache.get(world.getName());
+        return queue != null && queue.size() >= cacheSize;
+    }
+
+    public Set<String> getCachedWorldNames() {
+        return Collections.unmodifiableSet(locationCache.keySet());
     }
     
     public int getTotalCachedLocations() {
@@ -0,0 +1,167 @@
+package eu.kotori.justRTP.managers;
+
+import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.utils.ServerLoad;
+import eu.kotori.justRTP.utils.task.CancellableTask;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LocationReservationManager {
+    private record Reservation(String worldName, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ,
+                               boolean cacheCompatible, CompletableFuture<Optional<Location>> location, long expiresAt) {
+        boolean matches(World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ) {
+            return worldName.equals(world.getName()) && this.minRadius.equals(minRadius) && this.maxRadius.equals(maxRadius)
+                    && this.centerX == centerX && this.centerZ == centerZ;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    private final JustRTP plugin;
+    private final Map<UUID, Reservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicInteger activeSearches = new AtomicInteger();
+    private CancellableTask purgeTask;
+    private boolean enabled;
+    private int maxConcurrentSearches;
+    private long ttlMillis;
+    private double pauseAboveMspt;
+
+    public LocationReservationManager(JustRTP plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    public void reload() {
+        this.enabled = plugin.getConfig().getBoolean("performance.prefetch.enabled", true);
+        this.maxConcurrentSearches = Math.max(0, plugin.getConfig().getInt("performance.prefetch.max_concurrent_searches", 10));
+        this.ttlMillis = Math.max(5, plugin.getConfig().getInt("performance.prefetch.reservation_seconds", 60)) * 1000L;
+        this.pauseAboveMspt = plugin.getConfig().getDouble("performance.prefetch.pause_above_mspt", 40.0);
+
+        if (purgeTask != null && !purgeTask.isCancelled()) {
+            purgeTask.cancel();
+        }
+        purgeTask = enabled ? plugin.getFoliaScheduler().runTimer(this::purgeExpired, 200L, 200L) : null;
+        if (!enabled) {
+            reservations.keySet().forEach(this::discard);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean reserve(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius) {
+        return reserve(player, world, minRadius, maxRadius, 0, 0);
+    }
+
+    public boolean reserve(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ) {
+        if (!enabled || player == null || world == null) {
+            return false;
+        }
+        UUID playerUUID = player.getUniqueId();
+        Reservation existing = reservations.get(playerUUID);
+        if (existing != null) {
+            if (existing.matches(world, minRadius, maxRadius, centerX, centerZ) && !existing.isExpired()) {
+                return true;
+            }
+            discard(playerUUID);
+        }
+
+        boolean cacheCompatible = plugin.getConfigManager().isCacheEnabledForWorld(world)
+                && plugin.getRtpService().matchesCacheSettings(player, world, minRadius, maxRadius, centerX, centerZ);
+        CompletableFuture<Optional<Location>> location;
+        Optional<Location> cached = cacheCompatible ? plugin.getLocationCacheManager().getLocation(world) : Optional.empty();
+        if (cached.isPresent()) {
+            location = CompletableFuture.completedFuture(cached);
+            plugin.debug("[Prefetch] Reserved cached location in " + world.getName() + " for " + player.getName());
+        } else {
+            if (ServerLoad.isAboveMspt(pauseAboveMspt) || !tryAcquireSearch()) {
+                plugin.debug("[Prefetch] Not prefetching for " + player.getName() + " - search limit reached or server under load");
+                return false;
+            }
+            location = plugin.getRtpService().findSafeLocation(player, world, 0, minRadius, maxRadius, centerX, centerZ);
+            location.whenComplete((result, throwable) -> activeSearches.decrementAndGet());
+            plugin.debug("[Prefetch] Started location search in " + world.getName() + " for " + player.getName());
+        }
+
+        reservations.put(playerUUID, new Reservation(world.getName(), minRadius, maxRadius, centerX, centerZ,
+                cacheCompatible, location, System.currentTimeMillis() + ttlMillis));
+        return true;
+    }
+
+    public Optional<CompletableFuture<Optional<Location>>> take(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ) {
+        if (player == null || world == null) {
+            return Optional.empty();
+        }
+        Reservation reservation = reservations.get(player.getUniqueId());
+        if (reservation == null) {
+            return Optional.empty();
+        }
+        if (reservation.isExpired() || !reservation.matches(world, minRadius, maxRadius, centerX, centerZ)) {
+            discard(player.getUniqueId());
+            return Optional.empty();
+        }
+        if (!reservations.remove(player.getUniqueId(), reservation)) {
+            return Optional.empty();
+        }
+        plugin.debug("[Prefetch] Using reserved location for " + player.getName() + (reservation.location().isDone() ? " (ready)" : " (still searching)"));
+        return Optional.of(reservation.location());
+    }
+
+    public boolean hasReservation(UUID playerUUID) {
+        return reservations.containsKey(playerUUID);
+    }
+
+    public void discard(Player player) {
+        if (player != null) {
+            discard(player.getUniqueId());
+        }
+    }
+
+    public void discard(UUID playerUUID) {
+        Reservation reservation = reservations.remove(playerUUID);
+        if (reservation == null) {
+            return;
+        }
+        plugin.debug("[Prefetch] Discarded reservation in " + reservation.worldName() + " for " + playerUUID);
+        if (!reservation.cacheCompatible()) {
+            return;
+        }
+        reservation.location().thenAccept(locationOpt -> locationOpt.ifPresent(location -> {
+            World world = location.getWorld();
+            if (world != null && plugin.getLocationCacheManager() != null) {
+                plugin.getLocationCacheManager().offerLocation(world, location);
+            }
+        }));
+    }
+
+    private boolean tryAcquireSearch() {
+        while (true) {
+            int current = activeSearches.get();
+            if (current >= maxConcurrentSearches) {
+                return false;
+            }
+            if (activeSearches.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void purgeExpired() {
+        reservations.forEach((uuid, reservation) -> {
+            if (reservation.isExpired()) {
+                discard(uuid);
+            }
+        });
+    }
+}
@@ -2,9 +2,16 @@ package eu.kotori.justRTP.managers;
 
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.protocol.entity.type.EntityTypes;
+import com.github.retrooper.packetevents.protocol.particle.Particle;
+import com.github.retrooper.packetevents.protocol.particle.type.ParticleTypes;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import com.github.retrooper.packetevents.wrapper.play.server.*;
 import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.utils.task.CancellableTask;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
@@ -16,9 +23,14 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 
 import java.io.File;
 import java.io.IOException;
@@ -39,8 +51,16 @@ public class PacketHologramManager implements Listener {
     
     private final Map<UUID, Set<String>> playerVisibleHolograms = new ConcurrentHashMap<>();
     private final Map<String, Set<UUID>> hologramViewers = new ConcurrentHashMap<>();
+
+    private final Map<UUID, List<PacketWrapper<?>>> outboundPackets = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Map<Long, Set<String>>> hologramGrid = new ConcurrentHashMap<>();
+    private volatile CancellableTask flushTask;
     
     private final AtomicInteger entityIdCounter = new AtomicInteger(100000);
+
+    private static final int MAX_PRERENDERED_FRAMES = 3600;
+    private static final int MAX_BUNDLE_SIZE = 4096;
     
     private volatile boolean packetEventsAvailable = false;
     
@@ -49,13 +69,78 @@ public class PacketHologramManager implements Listener {
         final Location location;
         final List<HologramLine> lines;
         final int viewDistance;
+        final HologramTemplate template;
         final AtomicLong particleTick = new AtomicLong(0);
         
-        PacketHologram(String zoneId, Location location, List<HologramLine> lines, int viewDistance) {
+        PacketHologram(String zoneId, Location location, List<HologramLine> lines, int viewDistance, HologramTemplate template) {
             this.zoneId = zoneId;
             this.location = location.clone();
             this.lines = lines;
             this.viewDistance = viewDistance;
+            this.template = template;
+        }
+    }
+
+    // static lines are rendered once, countdown frames are prerendered and reused
+    private static class HologramTemplate {
+        final String zoneId;
+        final List<String> lines;
+        final Component[] staticText;
+        final Map<Integer, Component[]> countdownFrames = new ConcurrentHashMap<>();
+        volatile int renderedUpTo = -1;
+        volatile Component[] progressFrame;
+
+        HologramTemplate(String zoneId, List<String> lines) {
+            this.zoneId = zoneId;
+            this.lines = lines;
+            this.staticText = new Component[lines.size()];
+            for (int i = 0; i < lines.size(); i++) {
+                if (!isDynamic(lines.get(i))) {
+                    staticText[i] = render(lines.get(i), "");
+                }
+            }
+        }
+
+        static boolean isDynamic(String line) {
+            return line.contains("<time>");
+        }
+
+        Component render(String line, String time) {
+            return MiniMessage.miniMessage().deserialize(line,
+                    Placeholder.unparsed("zone_id", zoneId),
+                    Placeholder.unparsed("time", time));
+        }
+
+        Component[] renderFrame(String time) {
+            Component[] frame = new Component[lines.size()];
+            for (int i = 0; i < frame.length; i++) {
+                frame[i] = staticText[i] != null ? staticText[i] : render(lines.get(i), time);
+            }
+            return frame;
+        }
+
+        Component[] countdownFrame(int time) {
+            if (time < 0 || time > MAX_PRERENDERED_FRAMES) {
+                return renderFrame(eu.kotori.justRTP.utils.TimeUtils.formatDuration(time));
+            }
+            if (time > renderedUpTo) {
+                synchronized (this) {
+                    for (int t = renderedUpTo + 1; t <= time; t++) {
+                        countdownFrames.put(t, renderFrame(eu.kotori.justRTP.utils.TimeUtils.formatDuration(t)));
+                    }
+                    renderedUpTo = Math.max(renderedUpTo, time);
+                }
+            }
+            return countdownFrames.get(time);
+        }
+
+        Component[] progressFrame() {
+            Component[] frame = progressFrame;
+            if (frame == null) {
+                frame = renderFrame("Teleport in progress");
+                progressFrame = frame;
+            }
+            return frame;
         }
     }
     
@@ -89,6 +174,7 @@ public class PacketHologramManager implements Listener {
         
         if (packetEventsAvailable) {
             startParticleTask();
+            startFlushTask();
         }
     }
 
@@ -156,6 +242,7 @@ public class PacketHologramManager implements Listener {
 
                     List<HologramLine> lines = new ArrayList<>();
                     List<String> entityIds = new ArrayList<>();
+                    List<String> textLines = new ArrayList<>();
 
                     for (String line : configLines) {
                         if (line.isEmpty()) {
@@ -164,18 +251,23 @@ public class PacketHologramManager implements Listener {
                         }
                         
                         int entityId = entityIdCounter.getAndIncrement();
-            Component text = MiniMessage.miniMessage().deserialize(line,
-                Placeholder.unparsed("zone_id", zoneId),
-                Placeholder.unparsed("time", ""));
                         
-                        HologramLine hologramLine = new HologramLine(entityId, textLocation.clone(), text);
+                        HologramLine hologramLine = new HologramLine(entityId, textLocation.clone(), null);
                         lines.add(hologramLine);
+                        textLines.add(line);
                         entityIds.add(String.valueOf(entityId));
                         textLocation.subtract(0, lineSpacing, 0);
                     }
 
-                    PacketHologram hologram = new PacketHologram(zoneId, location, lines, viewDistance);
+                    HologramTemplate template = new HologramTemplate(zoneId, textLines);
+                    Component[] initialFrame = template.renderFrame("");
+                    for (int i = 0; i < lines.size(); i++) {
+                        lines.get(i).text = initialFrame[i];
+                    }
+
+                    PacketHologram hologram = new PacketHologram(zoneId, location, lines, viewDistance, template);
                     activeHolograms.put(zoneId.toLowerCase(), hologram);
+                    indexHologram(hologram);
                     
                     plugin.debug("Created packet hologram for zone " + zoneId + " with " + lines.size() + " lines");
                     
@@ -211,27 +303,7 @@ public class PacketHologramManager implements Listener {
             return;
         }
 
-    String timeString = eu.kotori.justRTP.utils.TimeUtils.formatDuration(time);
-        
-        List<String> configLines = hologramsConfig.getStringList("hologram-settings.lines");
-        
-        int lineIndex = 0;
-        
-        for (String line : configLines) {
-            if (!line.isEmpty() && lineIndex < hologram.lines.size()) {
-                HologramLine hologramLine = hologram.lines.get(lineIndex);
-                
-                synchronized (hologramLine) {
-            hologramLine.text = MiniMessage.miniMessage().deserialize(line,
-                Placeholder.unparsed("zone_id", zoneId),
-                Placeholder.unparsed("time", timeString));
-                }
-                
-                sendTextUpdateToViewers(hologram, hologramLine);
-                lineIndex++;
-            }
-        }
-        
+        applyFrame(hologram, hologram.template.countdownFrame(time));
         spawnParticlesForViewers(hologram);
     }
 
@@ -247,40 +319,81 @@ public class PacketHologramManager implements Listener {
             return;
         }
 
-        String progressText = "Teleport in progress";
-        
-        List<String> configLines = hologramsConfig.getStringList("hologram-settings.lines");
-        
-        int lineIndex = 0;
-        
-        for (String line : configLines) {
-            if (!line.isEmpty() && lineIndex < hologram.lines.size()) {
-                HologramLine hologramLine = hologram.lines.get(lineIndex);
-                
-                synchronized (hologramLine) {
-            hologramLine.text = MiniMessage.miniMessage().deserialize(line,
-                Placeholder.unparsed("zone_id", zoneId),
-                Placeholder.unparsed("time", progressText));
+        applyFrame(hologram, hologram.template.progressFrame());
+        spawnParticlesForViewers(hologram);
+    }
+
+    private void applyFrame(PacketHologram hologram, Component[] frame) {
+        int count = Math.min(frame.length, hologram.lines.size());
+        for (int i = 0; i < count; i++) {
+            HologramLine hologramLine = hologram.lines.get(i);
+            boolean changed;
+            synchronized (hologramLine) {
+                changed = !frame[i].equals(hologramLine.text);
+                if (changed) {
+                    hologramLine.text = frame[i];
                 }
-                
+            }
+            if (changed) {
                 sendTextUpdateToViewers(hologram, hologramLine);
-                lineIndex++;
             }
         }
-        
-        spawnParticlesForViewers(hologram);
     }
 
     private void sendHologramToNearbyPlayers(PacketHologram hologram) {
         if (!packetEventsAvailable) return;
         
         for (Player player : hologram.location.getWorld().getPlayers()) {
-            if (player.getLocation().distance(hologram.location) <= hologram.viewDistance) {
+            if (isInViewRange(hologram, player.getLocation())) {
                 showHologramToPlayer(hologram, player);
             }
         }
     }
 
+    private boolean isInViewRange(PacketHologram hologram, Location location) {
+        return location.getWorld() != null && location.getWorld().equals(hologram.location.getWorld())
+                && location.distanceSquared(hologram.location) <= (double) hologram.viewDistance * hologram.viewDistance;
+    }
+
+    // index by every chunk in view range so a move only checks the player's own chunk
+    private void indexHologram(PacketHologram hologram) {
+        Map<Long, Set<String>> chunks = hologramGrid.computeIfAbsent(hologram.location.getWorld().getUID(), k -> new ConcurrentHashMap<>());
+        forEachCoveredChunk(hologram, key -> chunks.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(hologram.zoneId));
+    }
+
+    private void unindexHologram(PacketHologram hologram) {
+        Map<Long, Set<String>> chunks = hologramGrid.get(hologram.location.getWorld().getUID());
+        if (chunks == null) return;
+        forEachCoveredChunk(hologram, key -> chunks.computeIfPresent(key, (k, zoneIds) -> {
+            zoneIds.remove(hologram.zoneId);
+            return zoneIds.isEmpty() ? null : zoneIds;
+        }));
+    }
+
+    private void forEachCoveredChunk(PacketHologram hologram, java.util.function.LongConsumer action) {
+        int minChunkX = (hologram.location.getBlockX() - hologram.viewDistance) >> 4;
+        int maxChunkX = (hologram.location.getBlockX() + hologram.viewDistance) >> 4;
+        int minChunkZ = (hologram.location.getBlockZ() - hologram.viewDistance) >> 4;
+        int maxChunkZ = (hologram.location.getBlockZ() + hologram.viewDistance) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                action.accept(getChunkKey(chunkX, chunkZ));
+            }
+        }
+    }
+
+    private Set<String> getHologramsNear(Location location) {
+        if (location.getWorld() == null) return Collections.emptySet();
+        Map<Long, Set<String>> chunks = hologramGrid.get(location.getWorld().getUID());
+        if (chunks == null) return Collections.emptySet();
+        Set<String> zoneIds = chunks.get(getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        return zoneIds != null ? zoneIds : Collections.emptySet();
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
     private void showHologramToPlayer(PacketHologram hologram, Player player) {
         if (!packetEventsAvailable || player == null || !player.isOnline()) return;
         
@@ -321,14 +434,14 @@ public class PacketHologramManager implements Listener {
                         0f, 0f, 0f, 0, Optional.empty()
                 );
                 
-                PacketEvents.getAPI().getPlayerManager().sendPacket(player, spawnPacket);
+                queuePacket(player, spawnPacket);
                 
                 WrapperPlayServerEntityMetadata metadataPacket = new WrapperPlayServerEntityMetadata(
                         line.entityId,
                         createArmorStandMetadata(line.text)
                 );
                 
-                PacketEvents.getAPI().getPlayerManager().sendPacket(player, metadataPacket);
+                queuePacket(player, metadataPacket);
             }
             
             if (attempt > 0) {
@@ -361,15 +474,8 @@ public class PacketHologramManager implements Listener {
                         }
                         
                         if (player.isOnline()) {
-                            plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                                try {
-                                    int[] entityIds = hologram.lines.stream().mapToInt(line -> line.entityId).toArray();
-                                    WrapperPlayServerDestroyEntities destroyPacket = new WrapperPlayServerDestroyEntities(entityIds);
-                                    PacketEvents.getAPI().getPlayerManager().sendPacket(player, destroyPacket);
-                                } catch (Exception e) {
-                                    plugin.getLogger().warning("Failed to hide hologram packets from player " + player.getName() + ": " + e.getMessage());
-                                }
-                            });
+                            int[] entityIds = hologram.lines.stream().mapToInt(line -> line.entityId).toArray();
+                            queuePacket(player, new WrapperPlayServerDestroyEntities(entityIds));
                         }
                     }
                 }
@@ -451,7 +557,7 @@ public class PacketHologramManager implements Listener {
         for (UUID playerId : viewers) {
             Player player = Bukkit.getPlayer(playerId);
             if (player != null && player.isOnline()) {
-                PacketEvents.getAPI().getPlayerManager().sendPacket(player, metadataPacket);
+                queuePacket(player, metadataPacket);
             }
         }
     }
@@ -471,34 +577,70 @@ public class PacketHologramManager implements Listener {
             double radius = particleSection.getDouble("radius", 0.8);
             double angle = (hologram.particleTick.getAndIncrement() * 0.1) % (2 * Math.PI);
 
+            List<WrapperPlayServerParticle> particlePackets = new ArrayList<>(count);
             for (int i = 0; i < count; i++) {
                 double currentAngle = angle + (2 * Math.PI * i / count);
                 double x = hologram.location.getX() + radius * Math.cos(currentAngle);
                 double z = hologram.location.getZ() + radius * Math.sin(currentAngle);
                 
-                org.bukkit.Location particleLoc = new org.bukkit.Location(
-                    hologram.location.getWorld(), x, hologram.location.getY(), z
-                );
-                
-                for (UUID playerId : viewers) {
-                    Player player = Bukkit.getPlayer(playerId);
-                    if (player != null && player.isOnline()) {
-                        try {
-                            org.bukkit.Particle particle = getParticle("ENCHANT");
-                            if (particle != null) {
-                                player.spawnParticle(particle, particleLoc, 1, 0, 0, 0, 0);
-                            }
-                        } catch (Exception ex) {
-                            org.bukkit.Particle particle = getParticle("ENCHANT");
-                            if (particle != null) {
-                                hologram.location.getWorld().spawnParticle(particle, particleLoc, 1, 0, 0, 0, 0);
-                            }
-                        }
-                    }
+                particlePackets.add(new WrapperPlayServerParticle(
+                        new Particle<>(ParticleTypes.ENCHANT), false,
+                        new Vector3d(x, hologram.location.getY(), z),
+                        new Vector3f(0f, 0f, 0f), 0f, 1));
+            }
+            
+            for (UUID playerId : viewers) {
+                Player player = Bukkit.getPlayer(playerId);
+                if (player != null && player.isOnline()) {
+                    particlePackets.forEach(packet -> queuePacket(player, packet));
                 }
             }
         } catch (Exception e) {
-            
+            plugin.debug("Failed to queue hologram particles for " + hologram.zoneId + ": " + e.getMessage());
+        }
+    }
+
+    private void queuePacket(Player player, PacketWrapper<?> packet) {
+        outboundPackets.compute(player.getUniqueId(), (uuid, packets) -> {
+            if (packets == null) {
+                packets = new ArrayList<>();
+            }
+            packets.add(packet);
+            return packets;
+        });
+        if (flushTask == null) {
+            startFlushTask();
+        }
+    }
+
+    // one bundle and one flush per viewer per tick
+    private void flushOutboundPackets() {
+        for (UUID playerId : new ArrayList<>(outboundPackets.keySet())) {
+            List<PacketWrapper<?>> packets = outboundPackets.remove(playerId);
+            if (packets == null || packets.isEmpty()) continue;
+
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null || !player.isOnline()) continue;
+
+            try {
+                User user = PacketEvents.getAPI().getPlayerManager().getUser(player);
+                if (user == null) continue;
+
+                boolean bundle = packets.size() > 1 && packets.size() < MAX_BUNDLE_SIZE
+                        && user.getClientVersion().isNewerThanOrEquals(ClientVersion.V_1_19_4);
+                if (bundle) {
+                    user.writePacket(new WrapperPlayServerBundle());
+                }
+                for (PacketWrapper<?> packet : packets) {
+                    user.writePacket(packet);
+                }
+                if (bundle) {
+                    user.writePacket(new WrapperPlayServerBundle());
+                }
+                user.flushPackets();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Failed to flush hologram packets to player " + player.getName() + ": " + e.getMessage());
+            }
         }
     }
 
@@ -510,6 +652,7 @@ public class PacketHologramManager implements Listener {
         PacketHologram hologram = activeHolograms.remove(normalizedZoneId);
         
         if (hologram != null) {
+            unindexHologram(hologram);
             Set<UUID> viewers = hologramViewers.remove(hologram.zoneId);
             if (viewers != null) {
                 Set<UUID> viewersSnapshot = new HashSet<>(viewers);
@@ -561,8 +704,18 @@ public class PacketHologramManager implements Listener {
         }
         
         activeHolograms.clear();
+        hologramGrid.clear();
         hologramViewers.clear();
         playerVisibleHolograms.clear();
+
+        synchronized (this) {
+            if (flushTask != null && !flushTask.isCancelled()) {
+                flushTask.cancel();
+            }
+            flushTask = null;
+        }
+        // hide packets queued above still have to reach the clients
+        flushOutboundPackets();
         
         displayEntitiesConfig.set("zones", null);
         saveDisplayEntities();
@@ -570,6 +723,13 @@ public class PacketHologramManager implements Listener {
         plugin.debug("Packet hologram cleanup complete.");
     }
 
+    private synchronized void startFlushTask() {
+        if (flushTask != null && !flushTask.isCancelled()) {
+            return;
+        }
+        flushTask = plugin.getFoliaScheduler().runTimer(this::flushOutboundPackets, 1L, 1L);
+    }
+
     private void startParticleTask() {
         plugin.getFoliaScheduler().runTimer(() -> {
             for (PacketHologram hologram : activeHolograms.values()) {
@@ -584,20 +744,43 @@ public class PacketHologramManager implements Listener {
         
         Player player = event.getPlayer();
         
-        plugin.getFoliaScheduler().runAtEntityLater(player, () -> {
-            if (!player.isOnline()) return;
-            
-            for (PacketHologram hologram : activeHolograms.values()) {
-                try {
-                    if (player.getWorld().equals(hologram.location.getWorld()) &&
-                        player.getLocation().distance(hologram.location) <= hologram.viewDistance) {
-                        showHologramToPlayer(hologram, player);
-                    }
-                } catch (Exception e) {
-                    plugin.debug("Error showing hologram " + hologram.zoneId + " to joining player: " + e.getMessage());
-                }
-            }
-        }, 20L); 
+        plugin.getFoliaScheduler().runAtEntityLater(player, () -> updateHologramVisibility(player), 20L);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (!packetEventsAvailable || activeHolograms.isEmpty()) return;
+        Location to = event.getTo();
+        Location from = event.getFrom();
+        if (from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ() && from.getBlockY() == to.getBlockY()) return;
+
+        Player player = event.getPlayer();
+        boolean crossedChunk = (from.getBlockX() >> 4) != (to.getBlockX() >> 4) || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4);
+        if (!crossedChunk && getHologramsNear(to).isEmpty()) {
+            Set<String> visible = playerVisibleHolograms.get(player.getUniqueId());
+            if (visible == null || visible.isEmpty()) return;
+        }
+        updateHologramVisibility(player, to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (!packetEventsAvailable || activeHolograms.isEmpty()) return;
+        Player player = event.getPlayer();
+        plugin.getFoliaScheduler().runAtEntityLater(player, () -> updateHologramVisibility(player), 1L);
+    }
+
+    @EventHandler
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        if (!packetEventsAvailable) return;
+        updateHologramVisibility(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        if (!packetEventsAvailable) return;
+        Player player = event.getPlayer();
+        plugin.getFoliaScheduler().runAtEntityLater(player, () -> updateHologramVisibility(player), 1L);
     }
 
     @EventHandler
@@ -605,6 +788,7 @@ public class PacketHologramManager implements Listener {
         if (!packetEventsAvailable) return;
         
         UUID playerId = event.getPlayer().getUniqueId();
+        outboundPackets.remove(playerId);
         
         Set<String> visibleHolograms = playerVisibleHolograms.remove(playerId);
         
@@ -627,76 +811,31 @@ public class PacketHologramManager implements Listener {
     }
 
     public void updateHologramVisibility(Player player) {
+        if (player == null || !player.isOnline()) return;
+        updateHologramVisibility(player, player.getLocation());
+    }
+
+    private void updateHologramVisibility(Player player, Location location) {
         if (!packetEventsAvailable || player == null || !player.isOnline()) return;
         
-        UUID playerId = player.getUniqueId();
-        
-        Set<String> currentlyVisible = playerVisibleHolograms.get(playerId);
-        if (currentlyVisible == null) {
-            currentlyVisible = ConcurrentHashMap.newKeySet();
-            Set<String> existing = playerVisibleHolograms.putIfAbsent(playerId, currentlyVisible);
-            if (existing != null) {
-                currentlyVisible = existing;
-            }
+        Set<String> candidates = new HashSet<>(getHologramsNear(location));
+        Set<String> currentlyVisible = playerVisibleHolograms.get(player.getUniqueId());
+        if (currentlyVisible != null) {
+            candidates.addAll(currentlyVisible);
         }
         
-        Set<String> currentlyVisibleSnapshot = new HashSet<>(currentlyVisible);
-        Set<String> shouldBeVisible = new HashSet<>();
-        
-        for (PacketHologram hologram : new ArrayList<>(activeHolograms.values())) {
+        for (String zoneId : candidates) {
+            PacketHologram hologram = activeHolograms.get(zoneId.toLowerCase());
+            if (hologram == null) continue;
             try {
-                if (player.getWorld().equals(hologram.location.getWorld()) &&
-                    player.getLocation().distance(hologram.location) <= hologram.viewDistance) {
-                    shouldBeVisible.add(hologram.zoneId);
-                }
-            } catch (Exception e) {
-                plugin.debug("Error calculating hologram visibility: " + e.getMessage());
-            }
-        }
-        
-        for (String zoneId : shouldBeVisible) {
-            if (!currentlyVisibleSnapshot.contains(zoneId)) {
-                PacketHologram hologram = activeHolograms.get(zoneId);
-                if (hologram != null) {
+                if (isInViewRange(hologram, location)) {
                     showHologramToPlayer(hologram, player);
-                }
-            }
-        }
-        
-        for (String zoneId : currentlyVisibleSnapshot) {
-            if (!shouldBeVisible.contains(zoneId)) {
-                PacketHologram hologram = activeHolograms.get(zoneId);
-                if (hologram != null) {
+                } else {
                     hideHologramFromPlayer(hologram, player);
                 }
+            } catch (Exception e) {
+                plugin.debug("Error calculating hologram visibility: " + e.getMessage());
             }
         }
     }
-    
-    private org.bukkit.Particle getParticle(String name) {
-        try {
-            return org.bukkit.Registry.PARTICLE_TYPE.get(org.bukkit.NamespacedKey.minecraft(name.toLowerCase()));
-        } catch (Throwable ignored) {
-        }
-        try {
-            Class<org.bukkit.Particle> particleClass = org.bukkit.Particle.class;
-            java.lang.reflect.Method valuesMethod = particleClass.getMethod("values");
-            Object result = valuesMethod.invoke(null);
-            if (result instanceof org.bukkit.Particle[]) {
-                org.bukkit.Particle[] allParticles = (org.bukkit.Particle[]) result;
-                java.lang.reflect.Method nameMethod = particleClass.getMethod("name");
-                for (int i = 0; i < allParticles.length; i++) {
-                    org.bukkit.Particle p = allParticles[i];
-                    if (p != null) {
-                        String enumName = (String) nameMethod.invoke(p);
-                        if (enumName != null && (enumName.equalsIgnoreCase(name) || enumName.equalsIgnoreCase("ENCHANTING_TABLE") || enumName.equalsIgnoreCase("ENCHANTMENT_TABLE"))) {
-                            return p;
-                        }
-                    }
-                }
-            }
-        } catch (Throwable ignored) {
-        }
-        return null;
-    }
-}
\ No newline at end of file
+}
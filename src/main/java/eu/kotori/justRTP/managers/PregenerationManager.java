@@ -0,0 +1,301 @@
+package eu.kotori.justRTP.managers;
+
+import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.utils.ServerLoad;
+import eu.kotori.justRTP.utils.task.CancellableTask;
+import io.papermc.lib.PaperLib;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+public class PregenerationManager {
+    private static final int MAX_PREGEN_RADIUS = 100_000;
+
+    private static final class Progress {
+        final String signature;
+        final int centerChunkX;
+        final int centerChunkZ;
+        final int firstRing;
+        final int lastRing;
+        final double minRadius;
+        final double maxRadius;
+        int ring;
+        int index;
+        long generated;
+        boolean complete;
+
+        Progress(String signature, int centerX, int centerZ, double minRadius, double maxRadius) {
+            this.signature = signature;
+            this.centerChunkX = centerX >> 4;
+            this.centerChunkZ = centerZ >> 4;
+            this.minRadius = minRadius;
+            this.maxRadius = maxRadius;
+            // Square rings: the inner circle reaches ring min/16 only on the axes, so start at min/16/sqrt(2).
+            this.firstRing = (int) Math.floor(minRadius / 16.0 / Math.sqrt(2));
+            this.lastRing = (int) Math.ceil(maxRadius / 16.0);
+            this.ring = firstRing;
+        }
+    }
+
+    private static final String SIGNATURE_VERSION = "v2";
+
+    private final JustRTP plugin;
+    private final File progressFile;
+    private final Map<String, Progress> progress = new LinkedHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private CancellableTask runTask;
+    private CancellableTask saveTask;
+    private boolean enabled;
+    private int chunksPerRun;
+    private int maxInFlight;
+    private double maxMspt;
+    private int maxPlayers;
+    private int cacheEvery;
+    private int worldCursor;
+
+    public PregenerationManager(JustRTP plugin) {
+        this.plugin = plugin;
+        this.progressFile = new File(plugin.getDataFolder(), "pregen.yml");
+    }
+
+    public void initialize() {
+        shutdown();
+        this.enabled = plugin.getConfig().getBoolean("pregeneration.enabled", false);
+        if (!enabled) {
+            plugin.debug("Background pre-generation is disabled.");
+            return;
+        }
+
+        this.chunksPerRun = Math.max(1, plugin.getConfig().getInt("pregeneration.chunks_per_run", 4));
+        this.maxInFlight = Math.max(1, plugin.getConfig().getInt("pregeneration.max_in_flight", 8));
+        this.maxMspt = plugin.getConfig().getDouble("pregeneration.max_mspt", 30.0);
+        this.maxPlayers = plugin.getConfig().getInt("pregeneration.max_players", 10);
+        this.cacheEvery = Math.max(0, plugin.getConfig().getInt("pregeneration.cache_every", 16));
+        long interval = Math.max(1L, plugin.getConfig().getLong("pregeneration.interval_ticks", 20L));
+        long saveInterval = Math.max(10L, plugin.getConfig().getLong("pregeneration.save_interval_seconds", 60L)) * 20L;
+
+        loadProgress();
+        if (progress.values().stream().allMatch(p -> p.complete)) {
+            plugin.getLogger().info("Background pre-generation: all configured worlds are already complete.");
+            return;
+        }
+
+        runTask = plugin.getFoliaScheduler().runTimer(this::runOnce, 200L, interval);
+        saveTask = plugin.getFoliaScheduler().runTimer(() -> plugin.getFoliaScheduler().runAsync(this::saveProgress), saveInterval, saveInterval);
+        plugin.getLogger().info("Background pre-generation enabled for " + progress.size() + " world(s).");
+    }
+
+    public void shutdown() {
+        if (runTask != null && !runTask.isCancelled()) {
+            runTask.cancel();
+        }
+        if (saveTask != null && !saveTask.isCancelled()) {
+            saveTask.cancel();
+        }
+        runTask = null;
+        saveTask = null;
+        if (!progress.isEmpty()) {
+            saveProgress();
+        }
+        synchronized (progress) {
+            progress.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getProgressPercent(String worldName) {
+        synchronized (progress) {
+            Progress p = progress.get(worldName);
+            if (p == null) return -1;
+            if (p.complete) return 100.0;
+            int rings = p.lastRing - p.firstRing + 1;
+            return rings <= 0 ? 100.0 : (p.ring - p.firstRing) * 100.0 / rings;
+        }
+    }
+
+    private void loadProgress() {
+        YamlConfiguration stored = progressFile.exists() ? YamlConfiguration.loadConfiguration(progressFile) : new YamlConfiguration();
+        synchronized (progress) {
+            progress.clear();
+            for (String worldName : getTargetWorlds()) {
+                World world = plugin.getServer().getWorld(worldName);
+                if (world == null) {
+                    plugin.debug("[Pregen] Skipping world '" + worldName + "' - world not loaded.");
+                    continue;
+                }
+                if (!plugin.getConfigManager().shouldGenerateChunks(world)) {
+                    plugin.debug("[Pregen] Skipping world '" + worldName + "' - generate_chunks is false.");
+                    continue;
+                }
+
+                ConfigurationSection worldConfig = plugin.getConfig().getConfigurationSection("custom_worlds." + worldName);
+                int centerX = (worldConfig != null) ? worldConfig.getInt("center_x", 0) : (int) world.getWorldBorder().getCenter().getX();
+                int centerZ = (worldConfig != null) ? worldConfig.getInt("center_z", 0) : (int) world.getWorldBorder().getCenter().getZ();
+                double borderRadius = world.getWorldBorder().getSize() / 2.0;
+                double maxRadius = Math.min(borderRadius, plugin.getConfigManager().getInt(null, world, "max_radius", (int) Math.min(borderRadius, Integer.MAX_VALUE)));
+                double minRadius = Math.max(0, Math.min(plugin.getConfigManager().getInt(null, world, "min_radius", 100), maxRadius));
+                if (maxRadius <= 0 || maxRadius > MAX_PREGEN_RADIUS) {
+                    plugin.getLogger().warning("Skipping pre-generation of '" + worldName + "': max_radius " + (long) maxRadius
+                            + " is not set or larger than " + MAX_PREGEN_RADIUS + " blocks.");
+                    continue;
+                }
+
+                String signature = SIGNATURE_VERSION + ":" + centerX + ":" + centerZ + ":" + (int) minRadius + ":" + (int) maxRadius;
+                Progress p = new Progress(signature, centerX, centerZ, minRadius, maxRadius);
+                ConfigurationSection section = stored.getConfigurationSection("worlds." + worldName);
+                if (section != null && signature.equals(section.getString("signature"))) {
+                    p.ring = Math.max(p.firstRing, section.getInt("ring", p.firstRing));
+                    p.index = Math.max(0, section.getInt("index", 0));
+                    p.generated = section.getLong("generated", 0L);
+                    p.complete = section.getBoolean("complete", false);
+                    plugin.debug("[Pregen] Resuming '" + worldName + "' at ring " + p.ring + "/" + p.lastRing);
+                } else if (section != null) {
+                    plugin.debug("[Pregen] RTP area of '" + worldName + "' changed - restarting pre-generation.");
+                }
+                progress.put(worldName, p);
+            }
+        }
+    }
+
+    private void saveProgress() {
+        YamlConfiguration out = new YamlConfiguration();
+        synchronized (progress) {
+            for (Map.Entry<String, Progress> entry : progress.entrySet()) {
+                Progress p = entry.getValue();
+                String path = "worlds." + entry.getKey();
+                out.set(path + ".signature", p.signature);
+                out.set(path + ".ring", p.ring);
+                out.set(path + ".index", p.index);
+                out.set(path + ".generated", p.generated);
+                out.set(path + ".complete", p.complete);
+            }
+        }
+        try {
+            out.save(progressFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not save pre-generation progress to pregen.yml", e);
+        }
+    }
+
+    private List<String> getTargetWorlds() {
+        List<String> configured = plugin.getConfig().getStringList("pregeneration.worlds");
+        if (!configured.isEmpty()) {
+            return configured;
+        }
+        ConfigurationSection cacheWorlds = plugin.getConfig().getConfigurationSection("location_cache.worlds");
+        return cacheWorlds != null ? new ArrayList<>(cacheWorlds.getKeys(false)) : new ArrayList<>();
+    }
+
+    private void runOnce() {
+        if (ServerLoad.isAboveMspt(maxMspt)) {
+            return;
+        }
+        if (maxPlayers >= 0 && plugin.getServer().getOnlinePlayers().size() > maxPlayers) {
+            return;
+        }
+
+        synchronized (progress) {
+            List<String> pending = new ArrayList<>();
+            for (Map.Entry<String, Progress> entry : progress.entrySet()) {
+                if (!entry.getValue().complete) pending.add(entry.getKey());
+            }
+            if (pending.isEmpty()) {
+                plugin.getLogger().info("Background pre-generation finished for all configured worlds.");
+                saveTask.cancel();
+                runTask.cancel();
+                plugin.getFoliaScheduler().runAsync(this::saveProgress);
+                return;
+            }
+
+            String worldName = pending.get(Math.floorMod(worldCursor++, pending.size()));
+            World world = plugin.getServer().getWorld(worldName);
+            if (world == null) {
+                return;
+            }
+            Progress p = progress.get(worldName);
+            int dispatched = 0;
+            while (dispatched < chunksPerRun && !p.complete && inFlight.get() < maxInFlight) {
+                int[] offset = nextChunkOffset(p);
+                if (offset == null) {
+                    p.complete = true;
+                    plugin.getLogger().info("Background pre-generation of '" + worldName + "' complete (" + p.generated + " chunks).");
+                    break;
+                }
+                int chunkX = p.centerChunkX + offset[0];
+                int chunkZ = p.centerChunkZ + offset[1];
+                if (!isInsideAnnulus(p, offset[0], offset[1])) {
+                    continue;
+                }
+                generateChunk(world, chunkX, chunkZ, ++p.generated);
+                dispatched++;
+            }
+        }
+    }
+
+    private int[] nextChunkOffset(Progress p) {
+        while (p.ring <= p.lastRing) {
+            int ring = p.ring;
+            int positions = ring == 0 ? 1 : ring * 8;
+            if (p.index >= positions) {
+                p.ring++;
+                p.index = 0;
+                continue;
+            }
+            int i = p.index++;
+            if (ring == 0) {
+                return new int[]{0, 0};
+            }
+            int side = i / (2 * ring);
+            int step = i % (2 * ring);
+            return switch (side) {
+                case 0 -> new int[]{-ring + step, -ring};
+                case 1 -> new int[]{ring, -ring + step};
+                case 2 -> new int[]{ring - step, ring};
+                default -> new int[]{-ring, ring - step};
+            };
+        }
+        return null;
+    }
+
+    private boolean isInsideAnnulus(Progress p, int offsetX, int offsetZ) {
+        double distance = Math.sqrt((double) offsetX * offsetX + (double) offsetZ * offsetZ) * 16.0;
+        return distance + 16.0 >= p.minRadius && distance - 16.0 <= p.maxRadius;
+    }
+
+    private void generateChunk(World world, int chunkX, int chunkZ, long sequence) {
+        inFlight.incrementAndGet();
+        PaperLib.getChunkAtAsync(world, chunkX, chunkZ, true).whenComplete((chunk, throwable) -> {
+            inFlight.decrementAndGet();
+            if (throwable != null || chunk == null) {
+                plugin.debug("[Pregen] Failed to generate chunk " + chunkX + ", " + chunkZ + " in " + world.getName()
+                        + (throwable != null ? ": " + throwable.getMessage() : ""));
+                return;
+            }
+            if (cacheEvery <= 0 || sequence % cacheEvery != 0) {
+                return;
+            }
+            LocationCacheManager cacheManager = plugin.getLocationCacheManager();
+            if (cacheManager == null || cacheManager.isCacheFull(world)) {
+                return;
+            }
+            plugin.getRtpService().findSafeLocationInChunk(chunk).ifPresent(location -> {
+                if (cacheManager.offerLocation(world, location)) {
+                    plugin.debug("[Pregen] Cached location found while pre-generating " + world.getName() + ": "
+                            + location.getBlockX() + ", " + location.getBlockY() + ", " + location.getBlockZ());
+                }
+            });
+        });
+    }
+}
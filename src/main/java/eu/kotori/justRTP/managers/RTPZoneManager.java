@@ -3,13 +3,19 @@ package eu.kotori.justRTP.managers;
 import eu.kotori.justRTP.JustRTP;
 import eu.kotori.justRTP.events.PlayerRTPZoneEnterEvent;
 import eu.kotori.justRTP.events.PlayerRTPZoneLeaveEvent;
+import eu.kotori.justRTP.utils.Cuboid;
+import eu.kotori.justRTP.utils.FoliaScheduler;
+import eu.kotori.justRTP.utils.PoissonDiskSampler;
 import eu.kotori.justRTP.utils.RTPZone;
 import eu.kotori.justRTP.utils.SafetyValidator;
 import eu.kotori.justRTP.utils.task.CancellableTask;
+import io.papermc.lib.PaperLib;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.title.Title;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.World;
@@ -24,19 +30,53 @@ import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 public class RTPZoneManager {
+    private static final int REGION_SECTION_SHIFT = 4;
+    private static final int MAX_SPREAD_SNAPSHOT_CHUNKS = 256;
+    private static final double SPREAD_BATCH_SLACK = 0.25;
+
+    private static final class ZoneClock {
+        final List<String> zoneIds = new java.util.concurrent.CopyOnWriteArrayList<>();
+        CancellableTask task;
+    }
+
+    private record WaitingFrame(Title title, Component actionBar, Sound sound, float volume, float pitch) {
+    }
+
+    private static final class ZonePrefetch {
+        final World world;
+        final CompletableFuture<Optional<Location>> central;
+        final Map<UUID, CompletableFuture<Location>> points = new ConcurrentHashMap<>();
+        final Deque<CompletableFuture<Location>> spare = new ConcurrentLinkedDeque<>();
+        final List<Location> foundLocations = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger batchCursor = new AtomicInteger();
+        CompletableFuture<List<Location>> batch;
+        CompletableFuture<Location> chain = CompletableFuture.completedFuture(null);
+        int assigned;
+
+        ZonePrefetch(World world, CompletableFuture<Optional<Location>> central) {
+            this.world = world;
+            this.central = central;
+        }
+    }
 
     private final JustRTP plugin;
     private final Map<String, RTPZone> zones = new ConcurrentHashMap<>();
     private final Map<UUID, String> playerZoneMap = new ConcurrentHashMap<>();
-    private final Map<String, Set<UUID>> zonePlayersMap = new ConcurrentHashMap<>();
-    private final Map<String, CancellableTask> activeZoneTasks = new ConcurrentHashMap<>();
+    private final Map<String, Set<Player>> zonePlayersMap = new ConcurrentHashMap<>();
+    private final Map<String, ZoneClock> zoneClocks = new ConcurrentHashMap<>();
+    private final Map<String, String> zoneClockKeys = new ConcurrentHashMap<>();
     private final Set<UUID> ignoringPlayers = ConcurrentHashMap.newKeySet();
     private final Set<UUID> recentlyTeleported = ConcurrentHashMap.newKeySet();
     private final Map<String, Integer> zoneCountdowns = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Map<Long, List<RTPZone>>> zoneIndex = Collections.emptyMap();
+    private final Map<String, Optional<Sound>> resolvedSounds = new ConcurrentHashMap<>();
+    private final Map<String, ZonePrefetch> zonePrefetches = new ConcurrentHashMap<>();
     private File zonesFile;
     private FileConfiguration zonesConfig;
     private CancellableTask hologramHealerTask;
@@ -53,6 +93,8 @@ public class RTPZoneManager {
         zonesConfig = YamlConfiguration.loadConfiguration(zonesFile);
         shutdownAllTasks();
         zones.clear();
+        resolvedSounds.clear();
+        zonePrefetches.clear();
         playerZoneMap.clear();
         zonePlayersMap.clear();
         ignoringPlayers.clear();
@@ -60,6 +102,7 @@ public class RTPZoneManager {
 
         ConfigurationSection zonesSection = zonesConfig.getConfigurationSection("zones");
         if (zonesSection == null) {
+            zoneIndex = Collections.emptyMap();
             plugin.getLogger().info("No RTP zones found to load.");
             return;
         }
@@ -73,15 +116,14 @@ public class RTPZoneManager {
                 plugin.getLogger().warning("Failed to load RTP Zone '" + zoneId + "': " + e.getMessage());
             }
         }
+        rebuildZoneIndex();
         startHologramHealerTask();
         plugin.getLogger().info("Loaded and activated " + zones.size() + " RTP Arena Zones.");
     }
 
     private void startZoneScheduler(RTPZone zone) {
-        CancellableTask existingTask = activeZoneTasks.remove(zone.getId().toLowerCase());
-        if (existingTask != null) {
-            existingTask.cancel();
-        }
+        String zoneId = zone.getId().toLowerCase();
+        stopZoneScheduler(zoneId);
 
         Location zoneCenter = zone.getCenterLocation();
         if (zoneCenter == null) {
@@ -94,55 +136,107 @@ public class RTPZoneManager {
         }
 
         final int interval = zone.getInterval();
-        final java.util.concurrent.atomic.AtomicInteger countdown = new java.util.concurrent.atomic.AtomicInteger(interval);
-
-        zoneCountdowns.put(zone.getId().toLowerCase(), interval);
-        
+        zoneCountdowns.put(zoneId, interval);
         plugin.getHologramManager().updateHologramTime(zone.getId(), interval);
 
-        CancellableTask task = plugin.getFoliaScheduler().runTimerAtLocation(zoneCenter, () -> {
+        String clockKey = getClockKey(zoneCenter);
+        ZoneClock clock = zoneClocks.computeIfAbsent(clockKey, key -> {
+            ZoneClock created = new ZoneClock();
+            created.task = plugin.getFoliaScheduler().runTimerAtLocation(zoneCenter, () -> tickClock(created), 1L, 20L);
+            plugin.debug("Started zone clock " + key);
+            return created;
+        });
+        clock.zoneIds.addIfAbsent(zoneId);
+        zoneClockKeys.put(zoneId, clockKey);
+    }
+
+    private void stopZoneScheduler(String zoneId) {
+        String clockKey = zoneClockKeys.remove(zoneId);
+        if (clockKey == null) return;
+        zoneClocks.computeIfPresent(clockKey, (key, clock) -> {
+            clock.zoneIds.remove(zoneId);
+            if (!clock.zoneIds.isEmpty()) {
+                return clock;
+            }
+            clock.task.cancel();
+            plugin.debug("Stopped zone clock " + key);
+            return null;
+        });
+    }
+
+    private String getClockKey(Location zoneCenter) {
+        if (!FoliaScheduler.isFolia()) {
+            return "global";
+        }
+        int sectionX = (zoneCenter.getBlockX() >> 4) >> REGION_SECTION_SHIFT;
+        int sectionZ = (zoneCenter.getBlockZ() >> 4) >> REGION_SECTION_SHIFT;
+        return zoneCenter.getWorld().getUID() + ":" + sectionX + ":" + sectionZ;
+    }
+
+    private void tickClock(ZoneClock clock) {
+        for (String zoneId : clock.zoneIds) {
+            RTPZone zone = zones.get(zoneId);
+            if (zone == null) continue;
             try {
-                List<Player> playersInZone = getPlayersInZone(zone.getId());
+                tickZone(zone);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Error in RTPZone scheduler for zone '" + zone.getId() + "':", e);
+            }
+        }
+    }
 
-                if (countdown.get() <= 0) {
-                    plugin.getHologramManager().updateHologramProgress(zone.getId());
-                    
-                    if (!playersInZone.isEmpty()) {
-                        for (Player player : playersInZone) {
-                            if (!isIgnoring(player)) {
-                                plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                                    player.clearTitle();
-                                });
-                            }
-                        }
-                        
-                        teleportPlayersInZone(playersInZone, zone);
-                    }
-                    
-                    countdown.set(interval);
-                    zoneCountdowns.put(zone.getId().toLowerCase(), interval);
-                    plugin.getHologramManager().updateHologramTime(zone.getId(), interval);
-                    return;
-                }
+    private void tickZone(RTPZone zone) {
+        String zoneId = zone.getId().toLowerCase();
+        int interval = zone.getInterval();
+        int countdown = zoneCountdowns.getOrDefault(zoneId, interval);
+        List<Player> playersInZone = getPlayersInZone(zoneId);
 
-                int currentTime = countdown.decrementAndGet();
-                
-                zoneCountdowns.put(zone.getId().toLowerCase(), currentTime);
-                
-                plugin.getHologramManager().updateHologramTime(zone.getId(), currentTime);
+        if (countdown <= 0) {
+            plugin.getHologramManager().updateHologramProgress(zone.getId());
 
+            if (!playersInZone.isEmpty()) {
                 for (Player player : playersInZone) {
                     if (!isIgnoring(player)) {
-                        final int timeToPass = currentTime;
-                        plugin.getFoliaScheduler().runAtEntity(player, () -> updateWaitingEffects(player, zone, timeToPass));
+                        dispatchToPlayer(player, player::clearTitle);
                     }
                 }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Error in RTPZone scheduler for zone '" + zone.getId() + "':", e);
+
+                teleportPlayersInZone(playersInZone, zone);
             }
-        }, 1L, 20L);
 
-        activeZoneTasks.put(zone.getId().toLowerCase(), task);
+            zoneCountdowns.put(zoneId, interval);
+            plugin.getHologramManager().updateHologramTime(zone.getId(), interval);
+            return;
+        }
+
+        int currentTime = countdown - 1;
+        zoneCountdowns.put(zoneId, currentTime);
+        plugin.getHologramManager().updateHologramTime(zone.getId(), currentTime);
+
+        // the teleport runs on the tick after 0, so currentTime < N starts it N seconds ahead
+        if (zone.getPrefetchSeconds() > 0 && currentTime < zone.getPrefetchSeconds()) {
+            updatePrefetch(zone, playersInZone);
+        }
+        if (playersInZone.isEmpty()) {
+            return;
+        }
+        WaitingFrame frame = buildWaitingFrame(zone, currentTime);
+        if (frame == null) {
+            return;
+        }
+        for (Player player : playersInZone) {
+            if (!isIgnoring(player)) {
+                dispatchToPlayer(player, () -> applyWaitingFrame(player, frame));
+            }
+        }
+    }
+
+    private void dispatchToPlayer(Player player, Runnable action) {
+        if (!FoliaScheduler.isFolia() || Bukkit.isOwnedByCurrentRegion(player)) {
+            action.run();
+        } else {
+            plugin.getFoliaScheduler().runAtEntity(player, action);
+        }
     }
 
     private void startHologramHealerTask() {
@@ -174,7 +268,7 @@ public class RTPZoneManager {
 
         plugin.debug("Teleporting " + teleportCandidates.size() + " players from zone " + zone.getId());
 
-        Set<UUID> playersInThisZone = zonePlayersMap.get(zone.getId().toLowerCase());
+        Set<Player> playersInThisZone = zonePlayersMap.get(zone.getId().toLowerCase());
         if (playersInThisZone != null) {
             for (Player p : teleportCandidates) {
                 if (p == null || !p.isOnline()) continue;
@@ -182,7 +276,7 @@ public class RTPZoneManager {
                 UUID playerUUID = p.getUniqueId();
                 
                 playerZoneMap.remove(playerUUID);
-                playersInThisZone.remove(playerUUID);
+                playersInThisZone.remove(p);
                 
                 recentlyTeleported.add(playerUUID);
                 plugin.getFoliaScheduler().runLater(() -> recentlyTeleported.remove(playerUUID), 100L);
@@ -232,119 +326,231 @@ public class RTPZoneManager {
         findSafeLocationsForPlayers(players, zone, targetWorld);
     }
 
+    private void updatePrefetch(RTPZone zone, List<Player> playersInZone) {
+        String zoneId = zone.getId().toLowerCase();
+        List<Player> candidates = new ArrayList<>();
+        for (Player player : playersInZone) {
+            if (!isIgnoring(player)) candidates.add(player);
+        }
+        ZonePrefetch prefetch = zonePrefetches.get(zoneId);
+        if (candidates.isEmpty()) {
+            if (prefetch != null) {
+                zonePrefetches.remove(zoneId);
+                plugin.debug("[ZONE RTP] Dropped prefetch for zone " + zone.getId() + " - zone is empty");
+            }
+            return;
+        }
+        if (prefetch == null) {
+            World targetWorld = Bukkit.getWorld(zone.getTarget());
+            if (targetWorld == null) {
+                return;
+            }
+            prefetch = startPrefetch(zone, targetWorld, candidates.get(0));
+            zonePrefetches.put(zoneId, prefetch);
+        }
+        syncPrefetchMembers(prefetch, zone, candidates);
+    }
+
+    private ZonePrefetch startPrefetch(RTPZone zone, World targetWorld, Player reference) {
+        plugin.debug("[ZONE RTP] Prefetching central location for zone " + zone.getId() + " in " + targetWorld.getName());
+        CompletableFuture<Optional<Location>> central = plugin.getRtpService()
+                .findSafeLocation(reference, targetWorld, 0, Optional.of(zone.getMinRadius()), Optional.of(zone.getMaxRadius()))
+                .exceptionally(throwable -> {
+                    plugin.getLogger().severe("[ZONE RTP] Error finding central location: " + throwable.getMessage());
+                    return Optional.empty();
+                });
+        return new ZonePrefetch(targetWorld, central);
+    }
+
+    private void syncPrefetchMembers(ZonePrefetch prefetch, RTPZone zone, List<Player> candidates) {
+        Set<UUID> present = new HashSet<>();
+        for (Player player : candidates) {
+            present.add(player.getUniqueId());
+        }
+        prefetch.points.entrySet().removeIf(entry -> {
+            if (present.contains(entry.getKey())) return false;
+            prefetch.spare.addLast(entry.getValue());
+            return true;
+        });
+        for (Player player : candidates) {
+            prefetch.points.computeIfAbsent(player.getUniqueId(), uuid -> {
+                CompletableFuture<Location> spare = prefetch.spare.pollFirst();
+                return spare != null ? spare : assignSpreadPoint(prefetch, zone, candidates.size());
+            });
+        }
+    }
+
+    private synchronized CompletableFuture<Location> assignSpreadPoint(ZonePrefetch prefetch, RTPZone zone, int groupSize) {
+        if (prefetch.batch == null) {
+            int batchSize = groupSize + (int) Math.ceil(groupSize * SPREAD_BATCH_SLACK);
+            prefetch.batch = prefetch.central.thenCompose(centralOpt -> centralOpt
+                    .map(central -> placeSpreadPoints(central, zone, batchSize))
+                    .orElseGet(() -> CompletableFuture.completedFuture(Collections.emptyList())))
+                    .exceptionally(throwable -> {
+                        plugin.getLogger().warning("[ZONE RTP] Spread placement failed for zone " + zone.getId() + ": " + throwable.getMessage());
+                        return Collections.emptyList();
+                    });
+            prefetch.batch.thenAccept(prefetch.foundLocations::addAll);
+        }
+        return prefetch.batch.thenCompose(points -> {
+            int index = prefetch.batchCursor.getAndIncrement();
+            if (index < points.size()) {
+                return CompletableFuture.completedFuture(points.get(index));
+            }
+            return queueSpreadPoint(prefetch, zone, groupSize);
+        });
+    }
+
+    private CompletableFuture<List<Location>> placeSpreadPoints(Location central, RTPZone zone, int count) {
+        World world = central.getWorld();
+        int minSpread = Math.max(1, zone.getMinSpreadDistance());
+        int maxSpread = Math.max(minSpread, zone.getMaxSpreadDistance());
+        int minChunkX = (central.getBlockX() - maxSpread) >> 4;
+        int maxChunkX = (central.getBlockX() + maxSpread) >> 4;
+        int minChunkZ = (central.getBlockZ() - maxSpread) >> 4;
+        int maxChunkZ = (central.getBlockZ() + maxSpread) >> 4;
+        int chunkCount = (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (chunkCount > MAX_SPREAD_SNAPSHOT_CHUNKS) {
+            plugin.debug("[ZONE RTP] Spread area of zone " + zone.getId() + " spans " + chunkCount + " chunks - placing players one by one");
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        boolean generateChunks = plugin.getConfigManager().shouldGenerateChunks(world);
+        List<CompletableFuture<Chunk>> chunkFutures = new ArrayList<>(chunkCount);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunkFutures.add(PaperLib.getChunkAtAsync(world, chunkX, chunkZ, generateChunks));
+            }
+        }
+
+        long started = System.currentTimeMillis();
+        CompletableFuture<List<Location>> result = new CompletableFuture<>();
+        CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0])).whenComplete((v, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+                return;
+            }
+            plugin.getFoliaScheduler().runAtLocation(central, () -> {
+                try {
+                    List<Location> points = PoissonDiskSampler.sample(central.getBlockX(), central.getBlockZ(), minSpread, maxSpread, count, (x, z) -> {
+                        int chunkX = x >> 4;
+                        int chunkZ = z >> 4;
+                        if (!world.isChunkLoaded(chunkX, chunkZ)) return null;
+                        if (FoliaScheduler.isFolia() && !Bukkit.isOwnedByCurrentRegion(world, chunkX, chunkZ)) return null;
+                        return plugin.getRtpService().findSafeLocationAt(world.getChunkAt(chunkX, chunkZ), x, z).orElse(null);
+                    });
+                    plugin.debug("[ZONE RTP] Placed " + points.size() + "/" + count + " spread points for zone " + zone.getId()
+                            + " in one pass over " + chunkCount + " chunks (" + (System.currentTimeMillis() - started) + "ms)");
+                    result.complete(points);
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        });
+        return result;
+    }
+
+    private synchronized CompletableFuture<Location> queueSpreadPoint(ZonePrefetch prefetch, RTPZone zone, int groupSize) {
+        int index = prefetch.assigned++;
+        int total = Math.max(groupSize, index + 1);
+        CompletableFuture<Location> point = prefetch.chain.handle((previous, throwable) -> null)
+                .thenCompose(ignored -> prefetch.central)
+                .thenCompose(centralOpt -> {
+                    if (centralOpt.isEmpty()) {
+                        return CompletableFuture.completedFuture((Location) null);
+                    }
+                    return findSafeLocationNearby(centralOpt.get(), zone, prefetch.foundLocations, total, index, 50);
+                })
+                .thenApply(location -> {
+                    if (location != null) {
+                        prefetch.foundLocations.add(location);
+                    }
+                    return location;
+                })
+                .exceptionally(throwable -> {
+                    plugin.getLogger().severe("[ZONE RTP] Spread point search failed for zone " + zone.getId() + ": " + throwable.getMessage());
+                    return null;
+                });
+        prefetch.chain = point;
+        return point;
+    }
+
     private void findSafeLocationsForPlayers(List<Player> players, RTPZone zone, World targetWorld) {
         if (players == null || players.isEmpty()) {
             plugin.getLogger().warning("[ZONE RTP] No players provided for zone " + zone.getId());
             return;
         }
         
-        plugin.debug("[ZONE RTP] ═══════════════════════════════════════════════════");
-        plugin.debug("[ZONE RTP] Starting group teleport for " + players.size() + " player(s):");
-        for (int i = 0; i < players.size(); i++) {
-            Player p = players.get(i);
-            plugin.debug("[ZONE RTP]   " + (i+1) + ". " + (p != null ? p.getName() : "NULL") + 
-                                  (p != null && p.isOnline() ? " (ONLINE)" : " (OFFLINE)"));
-        }
-        plugin.debug("[ZONE RTP] ═══════════════════════════════════════════════════");
+        plugin.debug("[ZONE RTP] Starting group teleport for " + players.size() + " player(s) in zone " + zone.getId()
+                + " (spread " + zone.getMinSpreadDistance() + "-" + zone.getMaxSpreadDistance() + " blocks)");
         
         plugin.getHologramManager().updateHologramProgress(zone.getId());
         
-        int minSpread = zone.getMinSpreadDistance();
-        int maxSpread = zone.getMaxSpreadDistance();
-        
-        plugin.debug("[ZONE RTP] Spread configuration: min=" + minSpread + " blocks, max=" + maxSpread + " blocks");
-        
         Player firstPlayer = players.get(0);
         if (firstPlayer == null || !firstPlayer.isOnline()) {
             plugin.getLogger().warning("[ZONE RTP] First player is null or offline, aborting group teleport");
             return;
         }
-        
-        plugin.debug("[ZONE RTP] Finding central safe location using " + firstPlayer.getName() + " as reference");
-        
-        plugin.getRtpService()
-            .findSafeLocation(firstPlayer, targetWorld, 0, 
-                            Optional.of(zone.getMinRadius()), 
-                            Optional.of(zone.getMaxRadius()))
-            .thenAccept(centralLocationOpt -> {
-                if (!centralLocationOpt.isPresent()) {
-                    plugin.getLogger().warning("[ZONE RTP] Could not find central safe location for zone " + zone.getId());
-                    
-                    for (Player player : players) {
-                        if (player != null && player.isOnline()) {
-                            plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                                plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                                plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
-                            });
-                        }
+
+        ZonePrefetch prefetch = zonePrefetches.remove(zone.getId().toLowerCase());
+        if (prefetch == null || !prefetch.world.equals(targetWorld)) {
+            prefetch = startPrefetch(zone, targetWorld, firstPlayer);
+        } else {
+            plugin.debug("[ZONE RTP] Using prefetched locations for zone " + zone.getId() + " (" + prefetch.points.size() + " spread point(s) queued)");
+        }
+        syncPrefetchMembers(prefetch, zone, players);
+
+        List<CompletableFuture<Location>> pointFutures = new ArrayList<>(players.size());
+        for (Player player : players) {
+            pointFutures.add(prefetch.points.get(player.getUniqueId()));
+        }
+        final ZonePrefetch activePrefetch = prefetch;
+
+        activePrefetch.central.thenAccept(centralLocationOpt -> {
+            if (centralLocationOpt.isEmpty()) {
+                plugin.getLogger().warning("[ZONE RTP] Could not find central safe location for zone " + zone.getId());
+                for (Player player : players) {
+                    if (player != null && player.isOnline()) {
+                        plugin.getFoliaScheduler().runAtEntity(player, () -> {
+                            plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
+                            plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
+                        });
                     }
-                    return;
                 }
-                
-                Location centralLocation = centralLocationOpt.get();
-                plugin.debug("[ZONE RTP] ✓ Central location found at X:" + 
-                                      centralLocation.getBlockX() + " Y:" + centralLocation.getBlockY() + " Z:" + 
-                                      centralLocation.getBlockZ() + " in " + targetWorld.getName());
-                plugin.debug("[ZONE RTP] Now finding individual spawn points SEQUENTIALLY for each player...");
-                
-                List<Location> foundLocations = Collections.synchronizedList(new ArrayList<>());
-                CompletableFuture<List<Location>> sequentialFuture = new CompletableFuture<>();
-                
-                plugin.debug("[ZONE RTP] Starting SEQUENTIAL location search for " + players.size() + " players");
-                findLocationsSequentially(players, 0, centralLocation, foundLocations, zone, 50, sequentialFuture);
-                
-                sequentialFuture.thenAccept(locations -> {
-                    if (locations != null && locations.size() == players.size()) {
-                        plugin.debug("[ZONE RTP] ✓ All " + locations.size() + " locations found via SEQUENTIAL processing");
-                        
-                        List<Player> validPlayers = new ArrayList<>();
-                        List<Location> validLocations = new ArrayList<>();
-                        
-                        for (int i = 0; i < players.size(); i++) {
-                            Player p = players.get(i);
-                            Location loc = locations.get(i);
-                            
-                            if (p != null && p.isOnline() && loc != null) {
-                                validPlayers.add(p);
-                                validLocations.add(loc);
-                            } else {
-                                plugin.getLogger().warning(String.format(
-                                    "[ZONE RTP] Skipping player %s - %s",
-                                    p != null ? p.getName() : "NULL",
-                                    loc == null ? "no location found" : "player offline"));
-                            }
-                        }
-                        
-                        if (!validPlayers.isEmpty()) {
-                            plugin.debug(String.format(
-                                "[ZONE RTP] Proceeding with teleportation for %d/%d players",
-                                validPlayers.size(), players.size()));
-                            performGroupTeleportation(validPlayers, validLocations, zone, "ZONE_RTP");
-                        } else {
-                            plugin.getLogger().warning("[ZONE RTP] No valid players to teleport after filtering");
-                        }
-                    } else {
-                        plugin.getLogger().warning("[ZONE RTP] ✗ Sequential processing failed or incomplete");
-                        for (Player player : players) {
-                            if (player != null && player.isOnline()) {
-                                plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                                    plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                                    plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
-                                });
-                            }
-                        }
+                return;
+            }
+
+            CompletableFuture.allOf(pointFutures.toArray(new CompletableFuture[0])).thenRun(() -> {
+                List<Player> validPlayers = new ArrayList<>();
+                List<Location> validLocations = new ArrayList<>();
+                for (int i = 0; i < players.size(); i++) {
+                    Player p = players.get(i);
+                    Location loc = pointFutures.get(i).join();
+                    if (p != null && p.isOnline() && loc != null) {
+                        validPlayers.add(p);
+                        validLocations.add(loc);
+                    } else if (p != null && p.isOnline()) {
+                        plugin.getLogger().warning("[ZONE RTP] Skipping player " + p.getName() + " - no location found");
+                        plugin.getFoliaScheduler().runAtEntity(p, () -> {
+                            plugin.getLocaleManager().sendMessage(p, "teleport.no_location_found");
+                            plugin.getLocaleManager().sendMessage(p, "zone.teleport_failed");
+                        });
                     }
-                }).exceptionally(ex -> {
-                    plugin.getLogger().severe("[ZONE RTP] Sequential processing exception: " + ex.getMessage());
-                    ex.printStackTrace();
-                    return null;
-                });
-            })
-            .exceptionally(throwable -> {
-                plugin.getLogger().severe("[ZONE RTP] Error finding central location: " + throwable.getMessage());
-                throwable.printStackTrace();
-                return null;
+                }
+
+                if (!validPlayers.isEmpty()) {
+                    plugin.debug(String.format(
+                        "[ZONE RTP] Proceeding with teleportation for %d/%d players",
+                        validPlayers.size(), players.size()));
+                    performGroupTeleportation(validPlayers, validLocations, zone, "ZONE_RTP");
+                } else {
+                    plugin.getLogger().warning("[ZONE RTP] No valid players to teleport after filtering");
+                }
             });
+        }).exceptionally(throwable -> {
+            plugin.getLogger().severe("[ZONE RTP] Error during group location search for zone " + zone.getId() + ": " + throwable.getMessage());
+            return null;
+        });
     }
     
     private CompletableFuture<Location> findSafeLocationNearby(
@@ -647,10 +853,13 @@ public class RTPZoneManager {
             });
     }
 
-    private void updateWaitingEffects(Player player, RTPZone zone, int timeRemaining) {
+    private WaitingFrame buildWaitingFrame(RTPZone zone, int timeRemaining) {
         ConfigurationSection waitingEffects = getZoneEffects(zone, "waiting");
-        if (waitingEffects == null) return;
+        if (waitingEffects == null) return null;
 
+        MiniMessage mm = MiniMessage.miniMessage();
+        String formattedTime = eu.kotori.justRTP.utils.TimeUtils.formatDuration(timeRemaining);
+        Title title = null;
         if (timeRemaining > 0) {
             ConfigurationSection titleSection = waitingEffects.getConfigurationSection("title");
             if (titleSection != null && titleSection.getBoolean("enabled", false)) {
@@ -662,119 +871,141 @@ public class RTPZoneManager {
                     long fadeOut = titleSection.getLong("fade_out", 5);
 
                     Title.Times times = Title.Times.times(Duration.ofMillis(fadeIn * 50), Duration.ofMillis(stay * 50), Duration.ofMillis(fadeOut * 50));
-            Title title = Title.title(
-                MiniMessage.miniMessage().deserialize(titleText),
-                MiniMessage.miniMessage().deserialize(subtitleText, Placeholder.unparsed("time", eu.kotori.justRTP.utils.TimeUtils.formatDuration(timeRemaining))),
-                times
-            );
-                    player.showTitle(title);
+                    title = Title.title(
+                        mm.deserialize(titleText),
+                        mm.deserialize(subtitleText, Placeholder.unparsed("time", formattedTime)),
+                        times
+                    );
                 }
             }
         }
 
+        Component actionBar = null;
         ConfigurationSection actionBarSection = waitingEffects.getConfigurationSection("action_bar");
         if (actionBarSection != null && actionBarSection.getBoolean("enabled", false)) {
             String text = actionBarSection.getString("text", "");
             if(!text.isBlank()) {
-                player.sendActionBar(MiniMessage.miniMessage().deserialize(text, Placeholder.unparsed("time", eu.kotori.justRTP.utils.TimeUtils.formatDuration(timeRemaining))));
+                actionBar = mm.deserialize(text, Placeholder.unparsed("time", formattedTime));
             }
         }
 
+        Sound sound = null;
+        float volume = 1.0f;
+        float pitch = 1.0f;
         ConfigurationSection soundSection = waitingEffects.getConfigurationSection("sound");
         if (soundSection != null && soundSection.getBoolean("enabled", false) && timeRemaining <= 3 && timeRemaining > 0) {
-            try {
-                String configSoundName = soundSection.getString("name", "");
-                if (configSoundName == null || configSoundName.trim().isEmpty()) {
-                    return;
-                }
-                String soundName = configSoundName.trim().toUpperCase();
-                Sound sound = null;
-                
-                java.util.List<String> soundVariants = new java.util.ArrayList<>();
-                soundVariants.add(soundName);
-                
-                String noUnderscores = soundName.replace("_", "");
-                soundVariants.add(noUnderscores); 
-                
-                soundVariants.add(noUnderscores.replaceAll("(?<!^)(?=[A-Z])", "_"));
+            String configSoundName = soundSection.getString("name", "");
+            if (configSoundName != null && !configSoundName.trim().isEmpty()) {
+                sound = resolvedSounds.computeIfAbsent(configSoundName, this::resolveZoneSound).orElse(null);
+                volume = (float) soundSection.getDouble("volume", 1.0);
+                pitch = (float) soundSection.getDouble("pitch", 1.0);
+            }
+        }
+
+        if (title == null && actionBar == null && sound == null) {
+            return null;
+        }
+        return new WaitingFrame(title, actionBar, sound, volume, pitch);
+    }
+
+    private void applyWaitingFrame(Player player, WaitingFrame frame) {
+        if (!player.isOnline()) return;
+        if (frame.title() != null) {
+            player.showTitle(frame.title());
+        }
+        if (frame.actionBar() != null) {
+            player.sendActionBar(frame.actionBar());
+        }
+        if (frame.sound() != null) {
+            player.playSound(player.getLocation(), frame.sound(), frame.volume(), frame.pitch());
+        }
+    }
+
+    private Optional<Sound> resolveZoneSound(String configSoundName) {
+        try {
+            String soundName = configSoundName.trim().toUpperCase();
+            Sound sound = null;
+            
+            java.util.List<String> soundVariants = new java.util.ArrayList<>();
+            soundVariants.add(soundName);
+            
+            String noUnderscores = soundName.replace("_", "");
+            soundVariants.add(noUnderscores); 
+            
+            soundVariants.add(noUnderscores.replaceAll("(?<!^)(?=[A-Z])", "_"));
+            
+            if (soundName.contains("_")) {
+                String[] parts = soundName.split("_");
                 
-                if (soundName.contains("_")) {
-                    String[] parts = soundName.split("_");
-                    
-                    if (parts.length >= 2) {
-                        StringBuilder merged = new StringBuilder();
-                        for (int i = 0; i < parts.length - 2; i++) {
-                            if (i > 0) merged.append("_");
-                            merged.append(parts[i]);
-                        }
-                        if (parts.length > 2) merged.append("_");
-                        merged.append(parts[parts.length - 2]).append(parts[parts.length - 1]);
-                        soundVariants.add(merged.toString());
+                if (parts.length >= 2) {
+                    StringBuilder merged = new StringBuilder();
+                    for (int i = 0; i < parts.length - 2; i++) {
+                        if (i > 0) merged.append("_");
+                        merged.append(parts[i]);
                     }
-                    
-                    String lastPart = parts[parts.length - 1];
-                    String smartSplit = splitCompoundWord(lastPart);
-                    if (!smartSplit.equals(lastPart)) {
-                        StringBuilder withSplit = new StringBuilder();
-                        for (int i = 0; i < parts.length - 1; i++) {
-                            if (i > 0) withSplit.append("_");
-                            withSplit.append(parts[i]);
-                        }
-                        if (parts.length > 1) withSplit.append("_");
-                        withSplit.append(smartSplit);
-                        soundVariants.add(withSplit.toString());
+                    if (parts.length > 2) merged.append("_");
+                    merged.append(parts[parts.length - 2]).append(parts[parts.length - 1]);
+                    soundVariants.add(merged.toString());
+                }
+                
+                String lastPart = parts[parts.length - 1];
+                String smartSplit = splitCompoundWord(lastPart);
+                if (!smartSplit.equals(lastPart)) {
+                    StringBuilder withSplit = new StringBuilder();
+                    for (int i = 0; i < parts.length - 1; i++) {
+                        if (i > 0) withSplit.append("_");
+                        withSplit.append(parts[i]);
                     }
+                    if (parts.length > 1) withSplit.append("_");
+                    withSplit.append(smartSplit);
+                    soundVariants.add(withSplit.toString());
                 }
+            }
 
-                plugin.debug("Zone sound: Trying " + soundVariants.size() + " variants for '" + configSoundName + "'");
+            plugin.debug("Zone sound: Trying " + soundVariants.size() + " variants for '" + configSoundName + "'");
 
-                for (String variant : soundVariants) {
-                    if (sound != null) break;
-                    
+            for (String variant : soundVariants) {
+                if (sound != null) break;
+                
+                try {
+                    sound = Sound.valueOf(variant);
+                    if (sound != null) {
+                        plugin.debug("Zone sound: Found '" + variant + "' via Sound.valueOf()");
+                    }
+                } catch (IllegalArgumentException e) {
+                }
+                
+                if (sound == null) {
                     try {
-                        sound = Sound.valueOf(variant);
+                        String registryKey = variant.toLowerCase().replace("_", ".");
+                        org.bukkit.NamespacedKey key = org.bukkit.NamespacedKey.minecraft(registryKey);
+                        sound = org.bukkit.Registry.SOUNDS.get(key);
                         if (sound != null) {
-                            plugin.debug("Zone sound: Found '" + variant + "' via Sound.valueOf()");
-                        }
-                    } catch (IllegalArgumentException e) {
-                    }
-                    
-                    if (sound == null) {
-                        try {
-                            String registryKey = variant.toLowerCase().replace("_", ".");
-                            org.bukkit.NamespacedKey key = org.bukkit.NamespacedKey.minecraft(registryKey);
-                            sound = org.bukkit.Registry.SOUNDS.get(key);
-                            if (sound != null) {
-                                plugin.debug("Zone sound: Found '" + variant + "' via Registry API (key: " + registryKey + ")");
-                            }
-                        } catch (Exception e) {
-                        }
-                    }
-                    
-                    if (sound == null) {
-                        try {
-                            org.bukkit.NamespacedKey key = org.bukkit.NamespacedKey.minecraft(variant.toLowerCase());
-                            sound = org.bukkit.Registry.SOUNDS.get(key);
-                            if (sound != null) {
-                                plugin.debug("Zone sound: Found '" + variant + "' via Registry API (underscore key)");
-                            }
-                        } catch (Exception e) {
+                            plugin.debug("Zone sound: Found '" + variant + "' via Registry API (key: " + registryKey + ")");
                         }
+                    } catch (Exception e) {
                     }
                 }
                 
-                if (sound != null) {
-                    float volume = (float) soundSection.getDouble("volume", 1.0);
-                    float pitch = (float) soundSection.getDouble("pitch", 1.0);
-                    player.playSound(player.getLocation(), sound, volume, pitch);
-                    plugin.debug("Zone sound: Successfully played " + sound);
-                } else {
-                    plugin.debug("Zone sound: Invalid sound name in zone effects: " + soundSection.getString("name") + " (tried variants: " + soundVariants + ")");
+                if (sound == null) {
+                    try {
+                        org.bukkit.NamespacedKey key = org.bukkit.NamespacedKey.minecraft(variant.toLowerCase());
+                        sound = org.bukkit.Registry.SOUNDS.get(key);
+                        if (sound != null) {
+                            plugin.debug("Zone sound: Found '" + variant + "' via Registry API (underscore key)");
+                        }
+                    } catch (Exception e) {
+                    }
                 }
-            } catch (Exception e) {
-                plugin.debug("Zone sound: Error playing zone sound: " + soundSection.getString("name") + " - " + e.getMessage());
-                e.printStackTrace();
             }
+            
+            if (sound == null) {
+                plugin.debug("Zone sound: Invalid sound name in zone effects: " + configSoundName + " (tried variants: " + soundVariants + ")");
+            }
+            return Optional.ofNullable(sound);
+        } catch (Exception e) {
+            plugin.debug("Zone sound: Error resolving zone sound: " + configSoundName + " - " + e.getMessage());
+            return Optional.empty();
         }
     }
     
@@ -788,9 +1019,43 @@ public class RTPZoneManager {
         return word;
     }
 
-    private RTPZone getZoneAt(Location location) {
+    private void rebuildZoneIndex() {
+        Map<UUID, Map<Long, List<RTPZone>>> index = new HashMap<>();
         for (RTPZone zone : zones.values()) {
-            if (zone.contains(location)) {
+            World world = Bukkit.getWorld(zone.getWorldName());
+            if (world == null) continue;
+            Cuboid cuboid = zone.getCuboid();
+            Map<Long, List<RTPZone>> chunks = index.computeIfAbsent(world.getUID(), k -> new HashMap<>());
+            for (int chunkX = cuboid.getMinX() >> 4; chunkX <= cuboid.getMaxX() >> 4; chunkX++) {
+                for (int chunkZ = cuboid.getMinZ() >> 4; chunkZ <= cuboid.getMaxZ() >> 4; chunkZ++) {
+                    chunks.computeIfAbsent(getChunkKey(chunkX, chunkZ), k -> new ArrayList<>(1)).add(zone);
+                }
+            }
+        }
+        zoneIndex = index;
+        plugin.debug("Rebuilt zone index: " + index.values().stream().mapToInt(Map::size).sum() + " chunk buckets across " + index.size() + " world(s)");
+    }
+
+    private List<RTPZone> getZonesInChunk(Location location) {
+        World world = location.getWorld();
+        if (world == null) return null;
+        Map<Long, List<RTPZone>> chunks = zoneIndex.get(world.getUID());
+        if (chunks == null) return null;
+        return chunks.get(getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private RTPZone getZoneAt(Location location) {
+        List<RTPZone> candidates = getZonesInChunk(location);
+        if (candidates == null) return null;
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        for (RTPZone zone : candidates) {
+            if (zone.getCuboid().contains(x, y, z)) {
                 return zone;
             }
         }
@@ -798,11 +1063,14 @@ public class RTPZoneManager {
     }
 
     public void handlePlayerMove(Player player, Location to) {
+        String currentZoneId = playerZoneMap.get(player.getUniqueId());
+        if (currentZoneId == null && getZonesInChunk(to) == null) {
+            return;
+        }
         if (recentlyTeleported.contains(player.getUniqueId())) {
             return;
         }
 
-        String currentZoneId = playerZoneMap.get(player.getUniqueId());
         RTPZone newZone = getZoneAt(to);
 
         if (newZone != null) {
@@ -811,7 +1079,7 @@ public class RTPZoneManager {
                 if (currentZoneId != null) {
                     RTPZone oldZone = getZone(currentZoneId);
                     if (oldZone != null) {
-                        Set<UUID> playersInOldZone = zonePlayersMap.get(currentZoneId.toLowerCase());
+                        Set<Player> playersInOldZone = zonePlayersMap.get(currentZoneId.toLowerCase());
                         int remainingPlayers = (playersInOldZone != null) ? playersInOldZone.size() - 1 : 0;
                         
                         PlayerRTPZoneLeaveEvent leaveEvent = new PlayerRTPZoneLeaveEvent(
@@ -824,12 +1092,12 @@ public class RTPZoneManager {
                         
                         plugin.getEffectsManager().applyEffects(player, getZoneEffects(oldZone, "on_leave"));
                         if (playersInOldZone != null) {
-                            playersInOldZone.remove(player.getUniqueId());
+                            playersInOldZone.remove(player);
                         }
                     }
                 }
                 
-                Set<UUID> playersInNewZone = zonePlayersMap.computeIfAbsent(newZone.getId().toLowerCase(), k -> ConcurrentHashMap.newKeySet());
+                Set<Player> playersInNewZone = zonePlayersMap.computeIfAbsent(newZone.getId().toLowerCase(), k -> ConcurrentHashMap.newKeySet());
                 int playersInZone = playersInNewZone.size() + 1;
                 
                 PlayerRTPZoneEnterEvent enterEvent = new PlayerRTPZoneEnterEvent(
@@ -841,7 +1109,7 @@ public class RTPZoneManager {
                 
                 if (!enterEvent.isCancelled()) {
                     playerZoneMap.put(player.getUniqueId(), newZone.getId());
-                    playersInNewZone.add(player.getUniqueId());
+                    playersInNewZone.add(player);
                     plugin.getEffectsManager().applyEffects(player, getZoneEffects(newZone, "on_enter"));
                 }
             }
@@ -849,7 +1117,7 @@ public class RTPZoneManager {
             if (currentZoneId != null) {
                 RTPZone oldZone = getZone(currentZoneId);
                 if (oldZone != null) {
-                    Set<UUID> playersInOldZone = zonePlayersMap.get(currentZoneId.toLowerCase());
+                    Set<Player> playersInOldZone = zonePlayersMap.get(currentZoneId.toLowerCase());
                     int remainingPlayers = (playersInOldZone != null) ? playersInOldZone.size() - 1 : 0;
                     
                     PlayerRTPZoneLeaveEvent leaveEvent = new PlayerRTPZoneLeaveEvent(
@@ -863,9 +1131,9 @@ public class RTPZoneManager {
                     plugin.getEffectsManager().applyEffects(player, getZoneEffects(oldZone, "on_leave"));
                 }
                 playerZoneMap.remove(player.getUniqueId());
-                Set<UUID> playersInOldZone = zonePlayersMap.get(currentZoneId.toLowerCase());
+                Set<Player> playersInOldZone = zonePlayersMap.get(currentZoneId.toLowerCase());
                 if (playersInOldZone != null) {
-                    playersInOldZone.remove(player.getUniqueId());
+                    playersInOldZone.remove(player);
                 }
             }
         }
@@ -875,7 +1143,7 @@ public class RTPZoneManager {
         String zoneId = playerZoneMap.remove(player.getUniqueId());
         if (zoneId != null) {
             RTPZone zone = getZone(zoneId);
-            Set<UUID> players = zonePlayersMap.get(zoneId.toLowerCase());
+            Set<Player> players = zonePlayersMap.get(zoneId.toLowerCase());
             int remainingPlayers = (players != null) ? players.size() - 1 : 0;
             
             if (zone != null) {
@@ -889,7 +1157,7 @@ public class RTPZoneManager {
             }
             
             if (players != null) {
-                players.remove(player.getUniqueId());
+                players.remove(player);
             }
         }
         ignoringPlayers.remove(player.getUniqueId());
@@ -897,14 +1165,15 @@ public class RTPZoneManager {
     }
 
     private List<Player> getPlayersInZone(String zoneId) {
-        Set<UUID> playerUuids = zonePlayersMap.get(zoneId.toLowerCase());
-        if (playerUuids == null) {
+        Set<Player> players = zonePlayersMap.get(zoneId.toLowerCase());
+        if (players == null || players.isEmpty()) {
             return Collections.emptyList();
         }
-        return playerUuids.stream()
-                .map(Bukkit::getPlayer)
-                .filter(p -> p != null && p.isOnline())
-                .collect(Collectors.toList());
+        List<Player> online = new ArrayList<>(players.size());
+        for (Player player : players) {
+            if (player.isOnline()) online.add(player);
+        }
+        return online;
     }
 
     private ConfigurationSection getZoneEffects(RTPZone zone, String effectType) {
@@ -920,8 +1189,9 @@ public class RTPZoneManager {
     }
 
     public void shutdownAllTasks() {
-        activeZoneTasks.values().forEach(CancellableTask::cancel);
-        activeZoneTasks.clear();
+        zoneClocks.values().forEach(clock -> clock.task.cancel());
+        zoneClocks.clear();
+        zoneClockKeys.clear();
         if (hologramHealerTask != null && !hologramHealerTask.isCancelled()) {
             hologramHealerTask.cancel();
         }
@@ -947,6 +1217,7 @@ public class RTPZoneManager {
     public void saveZone(RTPZone zone) {
         String zoneId = zone.getId().toLowerCase();
         zones.put(zoneId, zone);
+        rebuildZoneIndex();
         
         ConfigurationSection section = zonesConfig.getConfigurationSection("zones." + zone.getId());
         if (section == null) {
@@ -1014,25 +1285,24 @@ public class RTPZoneManager {
         
         plugin.debug("Starting zone deletion process for: " + zoneId);
         
-        CancellableTask task = activeZoneTasks.remove(lowerId);
-        if (task != null) {
-            task.cancel();
-            plugin.debug("✓ Stopped zone scheduler for: " + zoneId);
-        }
+        stopZoneScheduler(lowerId);
+        plugin.debug("✓ Stopped zone scheduler for: " + zoneId);
         
-        Set<UUID> playersInZone = zonePlayersMap.remove(lowerId);
+        Set<Player> playersInZone = zonePlayersMap.remove(lowerId);
         if (playersInZone != null && !playersInZone.isEmpty()) {
-            playersInZone.forEach(uuid -> playerZoneMap.remove(uuid));
+            playersInZone.forEach(p -> playerZoneMap.remove(p.getUniqueId()));
             plugin.debug("✓ Cleared " + playersInZone.size() + " players from zone: " + zoneId);
         }
         
         zoneCountdowns.remove(lowerId);
+        zonePrefetches.remove(lowerId);
         plugin.debug("✓ Removed countdown tracking for: " + zoneId);
 
         plugin.getHologramManager().removeHologram(zoneId);
         plugin.debug("✓ Removed hologram for zone: " + zoneId);
 
         zones.remove(lowerId);
+        rebuildZoneIndex();
         plugin.debug("✓ Removed zone from memory: " + zoneId);
         
         zonesConfig.set("zones." + zoneId, null);
@@ -1082,81 +1352,6 @@ public class RTPZoneManager {
     public Set<String> getZoneIds() {
         return zones.keySet();
     }
-    private void findLocationsSequentially(
-            List<Player> players,
-            int currentIndex,
-            Location firstLocation,
-            List<Location> foundLocations,
-            RTPZone zone,
-            int maxAttempts,
-            CompletableFuture<List<Location>> finalFuture) {
-
-        if (currentIndex >= players.size()) {
-            plugin.getLogger().info(String.format(
-                    "[ZoneTP-Sequential] ✓ All %d/%d locations found successfully",
-                    foundLocations.size(), players.size()));
-            finalFuture.complete(foundLocations);
-            return;
-        }
-
-        Player player = players.get(currentIndex);
-        
-        if (player == null || !player.isOnline()) {
-            plugin.getLogger().warning(String.format(
-                    "[ZoneTP-Sequential] [%d/%d] Player %s is offline, skipping",
-                    currentIndex + 1, players.size(), player != null ? player.getName() : "NULL"));
-            findLocationsSequentially(players, currentIndex + 1, firstLocation, foundLocations, zone, maxAttempts, finalFuture);
-            return;
-        }
-        
-        plugin.getLogger().info(String.format(
-                "[ZoneTP-Sequential] [%d/%d] Starting search for %s (foundLocations size: %d)",
-                currentIndex + 1, players.size(), player.getName(), foundLocations.size()));
-
-        findSafeLocationNearby(firstLocation, zone, foundLocations, players.size(), currentIndex, maxAttempts)
-                .thenAccept(location -> {
-                    if (location != null) {
-                        synchronized (foundLocations) {
-                            foundLocations.add(location);
-                        }
-                        plugin.getLogger().info(String.format(
-                                "[ZoneTP-Sequential] [%d/%d] ✓ Found location for %s at (%.1f, %.1f, %.1f) - foundLocations now has %d entries",
-                                currentIndex + 1, players.size(), player.getName(),
-                                location.getX(), location.getY(), location.getZ(), foundLocations.size()));
-
-                        findLocationsSequentially(players, currentIndex + 1, firstLocation, foundLocations, zone, maxAttempts, finalFuture);
-                    } else {
-                        plugin.getLogger().warning(String.format(
-                                "[ZoneTP-Sequential] [%d/%d] ✗ Failed to find location for %s after %d attempts",
-                                currentIndex + 1, players.size(), player.getName(), maxAttempts));
-                        
-                        synchronized (foundLocations) {
-                            foundLocations.add(null);
-                        }
-                        
-                        plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                            plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                            plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
-                        });
-                        
-                        findLocationsSequentially(players, currentIndex + 1, firstLocation, foundLocations, zone, maxAttempts, finalFuture);
-                    }
-                })
-                .exceptionally(ex -> {
-                    plugin.getLogger().severe(String.format(
-                            "[ZoneTP-Sequential] [%d/%d] Exception for %s: %s",
-                            currentIndex + 1, players.size(), player.getName(), ex.getMessage()));
-                    ex.printStackTrace();
-                    
-                    synchronized (foundLocations) {
-                        foundLocations.add(null);
-                    }
-                    
-                    findLocationsSequentially(players, currentIndex + 1, firstLocation, foundLocations, zone, maxAttempts, finalFuture);
-                    return null;
-                });
-    }
-
     private void performGroupTeleportation(
             List<Player> players,
             List<Location> locations,
@@ -1167,127 +1362,192 @@ public class RTPZoneManager {
                 "[ZoneTP-Execute] Starting teleportation for %d players to zone '%s'",
                 players.size(), zone.getId()));
 
-        int successCount = 0;
-        int failCount = 0;
-
+        List<GroupTarget> targets = new ArrayList<>(players.size());
+        AtomicInteger failCount = new AtomicInteger();
         for (int i = 0; i < players.size(); i++) {
             Player player = players.get(i);
-            Location location = locations.get(i);
-
+            Location location = i < locations.size() ? locations.get(i) : null;
             if (player == null || !player.isOnline()) {
                 plugin.getLogger().warning(String.format(
                         "[ZoneTP-Execute] [%d/%d] Player %s is offline, skipping",
                         i + 1, players.size(), player != null ? player.getName() : "NULL"));
-                failCount++;
+                failCount.incrementAndGet();
                 continue;
             }
-            
-            if (location == null) {
+            if (location == null || location.getWorld() == null) {
                 plugin.getLogger().warning(String.format(
                         "[ZoneTP-Execute] [%d/%d] No location for %s, skipping",
                         i + 1, players.size(), player.getName()));
-                failCount++;
+                failCount.incrementAndGet();
+                notifyTeleportFailed(player);
                 continue;
             }
+            targets.add(new GroupTarget(i + 1, player, location, getClockKey(location)));
+        }
+        if (targets.isEmpty()) {
+            logGroupSummary(zone, players.size(), 0, failCount.get());
+            return;
+        }
 
-            plugin.getLogger().info(String.format(
-                    "[ZoneTP-Execute] [%d/%d] Teleporting %s to (%.1f, %.1f, %.1f)",
-                    i + 1, players.size(), player.getName(),
-                    location.getX(), location.getY(), location.getZ()));
-
-            try {
-                boolean safe = SafetyValidator.isLocationAbsolutelySafeAsync(location).get();
-                if (!safe) {
-                    String reason = SafetyValidator.getUnsafeReason(location);
-                    plugin.getLogger().severe("╔════════════════════════════════════════════════════════════╗");
-                    plugin.getLogger().severe("║  ZONE TELEPORT SAFETY VALIDATOR BLOCKED UNSAFE LOCATION!  ║");
-                    plugin.getLogger().severe("║  Player: " + player.getName() + "                         ║");
-                    plugin.getLogger().severe("║  World: " + location.getWorld().getName() + " (" + location.getWorld().getEnvironment() + ")  ║");
-                    plugin.getLogger().severe("║  Location: " + location.getBlockX() + "," + location.getBlockY() + "," + location.getBlockZ() + "  ║");
-                    plugin.getLogger().severe("║  Reason: " + reason + "                                   ║");
-                    plugin.getLogger().severe("║  THIS IS A CRITICAL SAFETY FAILURE - PLEASE REPORT!       ║");
-                    plugin.getLogger().severe("╚════════════════════════════════════════════════════════════╝");
-                    failCount++;
-                    plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                        plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                        plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
-                    });
-                    continue;
-                }
-            } catch (Exception ex) {
-                plugin.getLogger().severe("Error validating location for " + player.getName() + ": " + ex.getMessage());
-                failCount++;
-                plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                    plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                    plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
-                });
-                continue;
+        Set<Long> seenChunks = new HashSet<>();
+        List<CompletableFuture<Chunk>> chunkFutures = new ArrayList<>();
+        for (GroupTarget target : targets) {
+            if (seenChunks.add(getChunkKey(target.location().getBlockX() >> 4, target.location().getBlockZ() >> 4))) {
+                chunkFutures.add(PaperLib.getChunkAtAsync(target.location()));
             }
+        }
 
-            World.Environment env = location.getWorld().getEnvironment();
-            double y = location.getY();
-            
-            if (env == World.Environment.NETHER) {
-                if (y >= 126.0 || (y + 1.0) >= 127.0) {
-                    plugin.getLogger().severe("╔════════════════════════════════════════════════════════════╗");
-                    plugin.getLogger().severe("║  EMERGENCY: NETHER ROOF SPAWN BLOCKED IN ZONE!            ║");
-                    plugin.getLogger().severe("║  Player: " + player.getName() + "                         ║");
-                    plugin.getLogger().severe("║  Location: Y=" + y + " (head at Y=" + (y+1) + ")          ║");
-                    plugin.getLogger().severe("║  This should NEVER happen - RTPService failed!             ║");
-                    plugin.getLogger().severe("╚════════════════════════════════════════════════════════════╝");
-                    failCount++;
-                    plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                        plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                        plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
-                    });
-                    continue;
+        long started = System.currentTimeMillis();
+        CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0])).whenComplete((v, throwable) -> {
+            if (throwable != null) {
+                plugin.getLogger().warning("[ZoneTP-Execute] Failed to preload landing chunks for zone " + zone.getId() + ": " + throwable.getMessage());
+            }
+            List<Chunk> ticketed = new ArrayList<>();
+            for (CompletableFuture<Chunk> future : chunkFutures) {
+                Chunk chunk = future.getNow(null);
+                if (chunk != null && !future.isCompletedExceptionally()) {
+                    ticketed.add(chunk);
                 }
-                plugin.getLogger().info("[ZONE RTP - NETHER SAFE] ✓ Verified Y=" + y + " < 126 (head at Y=" + (y+1) + ") for " + player.getName());
-            } else if (env == World.Environment.THE_END) {
-                if (y < 10 || y > 120) {
-                    plugin.getLogger().severe("[ZONE RTP - END SAFETY] Rejected Y=" + y + " (out of range 10-120) for " + player.getName());
-                    failCount++;
-                    plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                        plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                        plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
-                    });
-                    continue;
+            }
+            ticketed.forEach(chunk -> plugin.getFoliaScheduler().runAtChunk(chunk, () -> chunk.addPluginChunkTicket(plugin)));
+            plugin.debug("[ZoneTP-Execute] Preloaded " + ticketed.size() + " landing chunks for zone " + zone.getId()
+                    + " in " + (System.currentTimeMillis() - started) + "ms");
+
+            targets.sort(Comparator.comparing(GroupTarget::regionKey));
+            int perTick = Math.max(1, plugin.getConfig().getInt("zone_teleport_settings.teleports_per_tick", 10));
+            int waves = (targets.size() + perTick - 1) / perTick;
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger pendingWaves = new AtomicInteger(waves);
+            for (int wave = 0; wave < waves; wave++) {
+                List<GroupTarget> waveTargets = targets.subList(wave * perTick, Math.min(targets.size(), (wave + 1) * perTick));
+                Runnable runWave = () -> {
+                    Map<String, List<GroupTarget>> byRegion = new LinkedHashMap<>();
+                    for (GroupTarget target : waveTargets) {
+                        byRegion.computeIfAbsent(target.regionKey(), k -> new ArrayList<>()).add(target);
+                    }
+                    AtomicInteger pendingRegions = new AtomicInteger(byRegion.size());
+                    for (List<GroupTarget> regionTargets : byRegion.values()) {
+                        plugin.getFoliaScheduler().runAtLocation(regionTargets.get(0).location(), () -> {
+                            try {
+                                for (GroupTarget target : regionTargets) {
+                                    if (validateGroupLanding(target, players.size())) {
+                                        successCount.incrementAndGet();
+                                        dispatchGroupTeleport(target, zone, players.size());
+                                    } else {
+                                        failCount.incrementAndGet();
+                                        notifyTeleportFailed(target.player());
+                                    }
+                                }
+                            } finally {
+                                if (pendingRegions.decrementAndGet() == 0 && pendingWaves.decrementAndGet() == 0) {
+                                    plugin.getFoliaScheduler().runLater(() -> ticketed.forEach(chunk ->
+                                            plugin.getFoliaScheduler().runAtChunk(chunk, () -> chunk.removePluginChunkTicket(plugin))), 100L);
+                                    logGroupSummary(zone, players.size(), successCount.get(), failCount.get());
+                                }
+                            }
+                        });
+                    }
+                };
+                if (wave == 0) {
+                    runWave.run();
+                } else {
+                    plugin.getFoliaScheduler().runLater(runWave, wave);
                 }
-                plugin.getLogger().info("[ZONE RTP - END SAFE] ✓ Verified Y=" + y + " (range 10-120) for " + player.getName());
             }
+        });
+    }
 
-            final int playerIndex = i;
-            successCount++;
-            
-            plugin.getFoliaScheduler().runAtEntity(player, () -> {
-                player.clearTitle();
-                plugin.getEffectsManager().clearActionBar(player);
-                
-                plugin.getEffectsManager().applyEffects(player, getZoneEffects(zone, "teleport"));
-                
-                plugin.getRtpService().teleportPlayer(player, location);
-                
-                plugin.getLocaleManager().sendMessage(player, "zone.teleport_success");
-                
-                plugin.getLogger().info(String.format(
-                        "[ZoneTP-Execute] ✓ [%d/%d] Successfully teleported %s to Y=%.1f",
-                        playerIndex + 1, players.size(), player.getName(), location.getY()));
-            });
+    private record GroupTarget(int index, Player player, Location location, String regionKey) {
+    }
+
+    private boolean validateGroupLanding(GroupTarget target, int total) {
+        Player player = target.player();
+        Location location = target.location();
+        if (!player.isOnline()) {
+            plugin.getLogger().warning(String.format(
+                    "[ZoneTP-Execute] [%d/%d] Player %s went offline, skipping",
+                    target.index(), total, player.getName()));
+            return false;
+        }
+
+        try {
+            if (!SafetyValidator.isLocationAbsolutelySafe(location)) {
+                String reason = SafetyValidator.getUnsafeReason(location);
+                plugin.getLogger().severe("╔════════════════════════════════════════════════════════════╗");
+                plugin.getLogger().severe("║  ZONE TELEPORT SAFETY VALIDATOR BLOCKED UNSAFE LOCATION!  ║");
+                plugin.getLogger().severe("║  Player: " + player.getName() + "                         ║");
+                plugin.getLogger().severe("║  World: " + location.getWorld().getName() + " (" + location.getWorld().getEnvironment() + ")  ║");
+                plugin.getLogger().severe("║  Location: " + location.getBlockX() + "," + location.getBlockY() + "," + location.getBlockZ() + "  ║");
+                plugin.getLogger().severe("║  Reason: " + reason + "                                   ║");
+                plugin.getLogger().severe("║  THIS IS A CRITICAL SAFETY FAILURE - PLEASE REPORT!       ║");
+                plugin.getLogger().severe("╚════════════════════════════════════════════════════════════╝");
+                return false;
+            }
+        } catch (Exception ex) {
+            plugin.getLogger().severe("Error validating location for " + player.getName() + ": " + ex.getMessage());
+            return false;
         }
 
-        final int finalSuccess = successCount;
-        final int finalFail = failCount;
+        World.Environment env = location.getWorld().getEnvironment();
+        double y = location.getY();
+        if (env == World.Environment.NETHER) {
+            if (y >= 126.0 || (y + 1.0) >= 127.0) {
+                plugin.getLogger().severe("╔════════════════════════════════════════════════════════════╗");
+                plugin.getLogger().severe("║  EMERGENCY: NETHER ROOF SPAWN BLOCKED IN ZONE!            ║");
+                plugin.getLogger().severe("║  Player: " + player.getName() + "                         ║");
+                plugin.getLogger().severe("║  Location: Y=" + y + " (head at Y=" + (y+1) + ")          ║");
+                plugin.getLogger().severe("║  This should NEVER happen - RTPService failed!             ║");
+                plugin.getLogger().severe("╚════════════════════════════════════════════════════════════╝");
+                return false;
+            }
+            plugin.debug("[ZONE RTP - NETHER SAFE] ✓ Verified Y=" + y + " < 126 (head at Y=" + (y+1) + ") for " + player.getName());
+        } else if (env == World.Environment.THE_END) {
+            if (y < 10 || y > 120) {
+                plugin.getLogger().severe("[ZONE RTP - END SAFETY] Rejected Y=" + y + " (out of range 10-120) for " + player.getName());
+                return false;
+            }
+            plugin.debug("[ZONE RTP - END SAFE] ✓ Verified Y=" + y + " (range 10-120) for " + player.getName());
+        }
+        return true;
+    }
+
+    private void dispatchGroupTeleport(GroupTarget target, RTPZone zone, int total) {
+        Player player = target.player();
+        Location location = target.location();
+        plugin.getFoliaScheduler().runAtEntity(player, () -> {
+            player.clearTitle();
+            plugin.getEffectsManager().clearActionBar(player);
+
+            plugin.getEffectsManager().applyEffects(player, getZoneEffects(zone, "teleport"));
+
+            plugin.getRtpService().teleportPlayer(player, location);
+
+            plugin.getLocaleManager().sendMessage(player, "zone.teleport_success");
+
+            plugin.debug(String.format(
+                    "[ZoneTP-Execute] ✓ [%d/%d] Teleported %s to (%.1f, %.1f, %.1f)",
+                    target.index(), total, player.getName(), location.getX(), location.getY(), location.getZ()));
+        });
+    }
+
+    private void notifyTeleportFailed(Player player) {
+        plugin.getFoliaScheduler().runAtEntity(player, () -> {
+            plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
+            plugin.getLocaleManager().sendMessage(player, "zone.teleport_failed");
+        });
+    }
 
+    private void logGroupSummary(RTPZone zone, int total, int successCount, int failCount) {
         plugin.getLogger().info("╔════════════════════════════════════════════════════════════╗");
         plugin.getLogger().info("║  ZONE TELEPORT COMPLETE: " + zone.getId() + "                  ║");
-        plugin.getLogger().info("║  Total Players: " + players.size() + "                         ║");
-        plugin.getLogger().info("║  Successful: " + finalSuccess + "                              ║");
-        plugin.getLogger().info("║  Failed: " + finalFail + "                                     ║");
+        plugin.getLogger().info("║  Total Players: " + total + "                         ║");
+        plugin.getLogger().info("║  Successful: " + successCount + "                              ║");
+        plugin.getLogger().info("║  Failed: " + failCount + "                                     ║");
         plugin.getLogger().info("╚════════════════════════════════════════════════════════════╝");
 
-        if (finalFail > 0) {
-            plugin.getLogger().warning("[ZONE RTP] Zone " + zone.getId() + " had " + finalFail + 
+        if (failCount > 0) {
+            plugin.getLogger().warning("[ZONE RTP] Zone " + zone.getId() + " had " + failCount +
                                      " failed teleports. Check world configuration and zone radius settings.");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,293 @@
+package eu.kotori.justRTP.managers;
+
+import eu.kotori.justRTP.JustRTP;
+import io.papermc.lib.PaperLib;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ScatterManager {
+    public record ScatterResult(int requested, int located, int teleported, int chunkLoads, long searchMillis, long totalMillis) {
+    }
+
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+    private static final double JITTER_FRACTION = 0.35;
+    private static final long TICKET_RELEASE_DELAY = 200L;
+
+    private final class Operation {
+        final World world;
+        final List<Player> players;
+        final CommandSender reporter;
+        final int count;
+        final double centerX;
+        final double centerZ;
+        final double minRadius;
+        final double maxRadius;
+        final double spacing;
+        final double minDistance;
+        final double rotation;
+        final int chunkBudget;
+        final boolean generateChunks;
+        final Location[] slots;
+        final List<Location> accepted = new ArrayList<>();
+        final Set<Long> ticketedChunks = ConcurrentHashMap.newKeySet();
+        final AtomicInteger nextSlot = new AtomicInteger();
+        final AtomicInteger chunkLoads = new AtomicInteger();
+        final AtomicInteger located = new AtomicInteger();
+        final long startedAt = System.currentTimeMillis();
+
+        Operation(World world, List<Player> players, CommandSender reporter) {
+            this.world = world;
+            this.players = players;
+            this.reporter = reporter;
+            this.count = players.size();
+            this.slots = new Location[count];
+
+            WorldBorder border = world.getWorldBorder();
+            ConfigurationSection worldConfig = plugin.getConfig().getConfigurationSection("custom_worlds." + world.getName());
+            this.centerX = (worldConfig != null) ? worldConfig.getInt("center_x", 0) : border.getCenter().getX();
+            this.centerZ = (worldConfig != null) ? worldConfig.getInt("center_z", 0) : border.getCenter().getZ();
+            double borderRadius = border.getSize() / 2.0;
+            double configuredMax = plugin.getConfigManager().getInt(null, world, "max_radius", (int) Math.min(borderRadius, Integer.MAX_VALUE));
+            this.maxRadius = Math.max(1, Math.min(borderRadius, configuredMax));
+            this.minRadius = Math.max(0, Math.min(plugin.getConfigManager().getInt(null, world, "min_radius", 100), maxRadius - 1));
+            this.spacing = Math.sqrt(Math.PI * (maxRadius * maxRadius - minRadius * minRadius) / Math.max(1, count));
+            this.minDistance = configuredMinDistance > 0 ? configuredMinDistance : spacing * 0.5;
+            this.rotation = ThreadLocalRandom.current().nextDouble(2 * Math.PI);
+            this.chunkBudget = maxChunkLoads > 0 ? maxChunkLoads : count * attemptsPerPlayer;
+            this.generateChunks = plugin.getConfigManager().shouldGenerateChunks(world);
+        }
+    }
+
+    private final JustRTP plugin;
+    private final Set<String> activeWorlds = ConcurrentHashMap.newKeySet();
+    private int maxChunkLoads;
+    private int maxParallelChunkLoads;
+    private int attemptsPerPlayer;
+    private double configuredMinDistance;
+    private int waveSize;
+    private long waveIntervalTicks;
+
+    public ScatterManager(JustRTP plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    public void reload() {
+        this.maxChunkLoads = Math.max(0, plugin.getConfig().getInt("scatter.max_chunk_loads", 0));
+        this.maxParallelChunkLoads = Math.max(1, plugin.getConfig().getInt("scatter.max_parallel_chunk_loads", 16));
+        this.attemptsPerPlayer = Math.max(1, plugin.getConfig().getInt("scatter.attempts_per_player", 4));
+        this.configuredMinDistance = Math.max(0, plugin.getConfig().getDouble("scatter.min_distance", 0));
+        this.waveSize = Math.max(1, plugin.getConfig().getInt("scatter.wave_size", 20));
+        this.waveIntervalTicks = Math.max(1L, plugin.getConfig().getLong("scatter.wave_interval_ticks", 10L));
+    }
+
+    public boolean isScattering(World world) {
+        return world != null && activeWorlds.contains(world.getName());
+    }
+
+    public CompletableFuture<ScatterResult> scatter(World world, Collection<? extends Player> players) {
+        return scatter(world, players, null);
+    }
+
+    public CompletableFuture<ScatterResult> scatter(World world, Collection<? extends Player> players, CommandSender reporter) {
+        List<Player> online = new ArrayList<>();
+        for (Player player : players) {
+            if (player != null && player.isOnline()) online.add(player);
+        }
+        if (world == null || online.isEmpty()) {
+            return CompletableFuture.completedFuture(new ScatterResult(online.size(), 0, 0, 0, 0, 0));
+        }
+        if (!activeWorlds.add(world.getName())) {
+            return CompletableFuture.failedFuture(new IllegalStateException("A scatter is already running in " + world.getName()));
+        }
+
+        Operation op = new Operation(world, online, reporter);
+        plugin.debug("[Scatter] Scattering " + op.count + " players in " + world.getName() + " (spacing " + (int) op.spacing
+                + ", min distance " + (int) op.minDistance + ", chunk budget " + op.chunkBudget + ")");
+        report(op, "scatter.started", Placeholder.unparsed("count", String.valueOf(op.count)),
+                Placeholder.unparsed("world", world.getName()));
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(maxParallelChunkLoads, op.count); i++) {
+            workers.add(runWorker(op));
+        }
+
+        return CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                .thenCompose(v -> teleportInWaves(op))
+                .whenComplete((result, throwable) -> {
+                    activeWorlds.remove(world.getName());
+                    plugin.getFoliaScheduler().runLater(() -> releaseChunkTickets(op), TICKET_RELEASE_DELAY);
+                    if (throwable != null) {
+                        plugin.getLogger().warning("Scatter in " + world.getName() + " failed: " + throwable.getMessage());
+                    }
+                });
+    }
+
+    private CompletableFuture<Void> runWorker(Operation op) {
+        int slot = op.nextSlot.getAndIncrement();
+        if (slot >= op.count) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return locateSlot(op, slot, 0).exceptionally(throwable -> {
+            plugin.debug("[Scatter] Search for slot " + slot + " in " + op.world.getName() + " failed: " + throwable.getMessage());
+            return Optional.empty();
+        }).thenCompose(locationOpt -> {
+            locationOpt.ifPresent(location -> {
+                op.slots[slot] = location;
+                int found = op.located.incrementAndGet();
+                int step = Math.max(1, op.count / 4);
+                if (found % step == 0 && found < op.count) {
+                    report(op, "scatter.progress", Placeholder.unparsed("found", String.valueOf(found)),
+                            Placeholder.unparsed("count", String.valueOf(op.count)));
+                }
+            });
+            return runWorker(op);
+        });
+    }
+
+    private CompletableFuture<Optional<Location>> locateSlot(Operation op, int slot, int attempt) {
+        if (attempt >= attemptsPerPlayer || op.chunkLoads.incrementAndGet() > op.chunkBudget) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        double radius = Math.sqrt(op.minRadius * op.minRadius
+                + (op.maxRadius * op.maxRadius - op.minRadius * op.minRadius) * (slot + 0.5) / op.count);
+        double angle = op.rotation + slot * GOLDEN_ANGLE;
+        double targetX = op.centerX + radius * Math.cos(angle);
+        double targetZ = op.centerZ + radius * Math.sin(angle);
+        if (attempt > 0) {
+            double jitter = op.spacing * JITTER_FRACTION;
+            targetX += ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+            targetZ += ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        }
+        WorldBorder border = op.world.getWorldBorder();
+        double borderRadius = border.getSize() / 2.0 - 1;
+        int x = (int) Math.max(border.getCenter().getX() - borderRadius, Math.min(border.getCenter().getX() + borderRadius, targetX));
+        int z = (int) Math.max(border.getCenter().getZ() - borderRadius, Math.min(border.getCenter().getZ() + borderRadius, targetZ));
+
+        return PaperLib.getChunkAtAsync(op.world, x >> 4, z >> 4, op.generateChunks).thenCompose(chunk -> {
+            if (chunk == null) {
+                return locateSlot(op, slot, attempt + 1);
+            }
+            Optional<Location> safeSpot = plugin.getRtpService().findSafeLocationInChunk(chunk);
+            if (safeSpot.isEmpty() || !accept(op, safeSpot.get())) {
+                return locateSlot(op, slot, attempt + 1);
+            }
+            if (op.ticketedChunks.add(getChunkKey(chunk.getX(), chunk.getZ()))) {
+                chunk.addPluginChunkTicket(plugin);
+            }
+            return CompletableFuture.completedFuture(safeSpot);
+        });
+    }
+
+    private boolean accept(Operation op, Location location) {
+        double minDistanceSquared = op.minDistance * op.minDistance;
+        synchronized (op.accepted) {
+            for (Location other : op.accepted) {
+                double dx = other.getX() - location.getX();
+                double dz = other.getZ() - location.getZ();
+                if (dx * dx + dz * dz < minDistanceSquared) {
+                    return false;
+                }
+            }
+            LandingLeaseManager landingLeases = plugin.getLandingLeaseManager();
+            if (landingLeases != null && !landingLeases.tryLease(location)) {
+                return false;
+            }
+            op.accepted.add(location);
+            return true;
+        }
+    }
+
+    private CompletableFuture<ScatterResult> teleportInWaves(Operation op) {
+        long searchMillis = System.currentTimeMillis() - op.startedAt;
+        List<Location> locations = new ArrayList<>();
+        for (Location location : op.slots) {
+            if (location != null) locations.add(location);
+        }
+        report(op, "scatter.located", Placeholder.unparsed("found", String.valueOf(locations.size())),
+                Placeholder.unparsed("count", String.valueOf(op.count)),
+                Placeholder.unparsed("chunks", String.valueOf(Math.min(op.chunkLoads.get(), op.chunkBudget))),
+                Placeholder.unparsed("time", String.valueOf(searchMillis)));
+        if (locations.size() < op.count) {
+            plugin.getLogger().warning("Scatter in " + op.world.getName() + " found only " + locations.size() + "/" + op.count
+                    + " locations within the chunk budget of " + op.chunkBudget + ".");
+        }
+
+        CompletableFuture<ScatterResult> result = new CompletableFuture<>();
+        int total = Math.min(locations.size(), op.players.size());
+        if (total == 0) {
+            result.complete(new ScatterResult(op.count, 0, 0, op.chunkLoads.get(), searchMillis, System.currentTimeMillis() - op.startedAt));
+            return result;
+        }
+
+        AtomicInteger teleported = new AtomicInteger();
+        int waves = (total + waveSize - 1) / waveSize;
+        for (int wave = 0; wave < waves; wave++) {
+            int from = wave * waveSize;
+            int to = Math.min(total, from + waveSize);
+            boolean lastWave = wave == waves - 1;
+            int waveNumber = wave + 1;
+            Runnable runWave = () -> {
+                for (int i = from; i < to; i++) {
+                    Player player = op.players.get(i);
+                    if (player.isOnline()) {
+                        plugin.getRtpService().teleportPlayer(player, locations.get(i));
+                        teleported.incrementAndGet();
+                    }
+                }
+                plugin.debug("[Scatter] Wave " + waveNumber + "/" + waves + " sent in " + op.world.getName());
+                if (lastWave) {
+                    long totalMillis = System.currentTimeMillis() - op.startedAt;
+                    report(op, "scatter.complete", Placeholder.unparsed("teleported", String.valueOf(teleported.get())),
+                            Placeholder.unparsed("count", String.valueOf(op.count)),
+                            Placeholder.unparsed("waves", String.valueOf(waves)),
+                            Placeholder.unparsed("time", String.valueOf(totalMillis)));
+                    result.complete(new ScatterResult(op.count, locations.size(), teleported.get(), op.chunkLoads.get(), searchMillis, totalMillis));
+                }
+            };
+            if (wave == 0) {
+                plugin.getFoliaScheduler().runNow(runWave);
+            } else {
+                plugin.getFoliaScheduler().runLater(runWave, wave * waveIntervalTicks);
+            }
+        }
+        return result;
+    }
+
+    private void report(Operation op, String path, TagResolver... resolvers) {
+        if (op.reporter != null) {
+            plugin.getLocaleManager().sendMessage(op.reporter, path, resolvers);
+        }
+    }
+
+    private void releaseChunkTickets(Operation op) {
+        for (long key : op.ticketedChunks) {
+            int chunkX = (int) (key >> 32);
+            int chunkZ = (int) key;
+            Location chunkLocation = new Location(op.world, chunkX << 4, 0, chunkZ << 4);
+            plugin.getFoliaScheduler().runAtLocation(chunkLocation, () -> op.world.removePluginChunkTicket(chunkX, chunkZ, plugin));
+        }
+        op.ticketedChunks.clear();
+    }
+
+    private long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
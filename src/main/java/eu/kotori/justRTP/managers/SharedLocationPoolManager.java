@@ -0,0 +1,207 @@
+package eu.kotori.justRTP.managers;
+
+import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.utils.DataManager;
+import eu.kotori.justRTP.utils.RedisDataStorage;
+import eu.kotori.justRTP.utils.RedisManager;
+import eu.kotori.justRTP.utils.ServerLoad;
+import eu.kotori.justRTP.utils.task.CancellableTask;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SharedLocationPoolManager {
+    public record SharedLocation(String worldName, double x, double y, double z, float yaw, float pitch, long expiresAt) {
+        public static SharedLocation of(Location location, int ttlSeconds) {
+            return new SharedLocation(location.getWorld().getName(), location.getX(), location.getY(), location.getZ(),
+                    location.getYaw(), location.getPitch(), System.currentTimeMillis() + ttlSeconds * 1000L);
+        }
+
+        public static Optional<SharedLocation> parse(String data) {
+            if (data == null) return Optional.empty();
+            String[] parts = data.split(";");
+            if (parts.length != 7) return Optional.empty();
+            try {
+                return Optional.of(new SharedLocation(parts[0],
+                        Double.parseDouble(parts[1]), Double.parseDouble(parts[2]), Double.parseDouble(parts[3]),
+                        Float.parseFloat(parts[4]), Float.parseFloat(parts[5]), Long.parseLong(parts[6])));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        public String serialize() {
+            return worldName + ";" + x + ";" + y + ";" + z + ";" + yaw + ";" + pitch + ";" + expiresAt;
+        }
+
+        public boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    private static final int MAX_CLAIM_ATTEMPTS = 5;
+
+    private final JustRTP plugin;
+    private final Set<String> publishing = ConcurrentHashMap.newKeySet();
+    private CancellableTask publishTask;
+    private boolean enabled;
+    private int surplusPerWorld;
+    private int entryTtlSeconds;
+    private double pauseAboveMspt;
+
+    public SharedLocationPoolManager(JustRTP plugin) {
+        this.plugin = plugin;
+    }
+
+    public void initialize() {
+        shutdown();
+        this.enabled = plugin.getConfig().getBoolean("location_cache.shared_pool.enabled", false);
+        if (!enabled) {
+            plugin.debug("Shared location pool is disabled.");
+            return;
+        }
+
+        if (!plugin.getConfigManager().getProxyEnabled()) {
+            plugin.getLogger().warning("location_cache.shared_pool is enabled but proxy.enabled is false - shared pool disabled.");
+            enabled = false;
+            return;
+        }
+
+        String thisServer = plugin.getConfigManager().getProxyThisServerName();
+        if (thisServer == null || thisServer.isEmpty() || thisServer.equals("server-name")) {
+            plugin.getLogger().warning("Cannot start shared location pool: 'this_server_name' not configured");
+            enabled = false;
+            return;
+        }
+
+        if (!plugin.getDataManager().getRedisManager().isLocationCacheEnabled()) {
+            plugin.getLogger().warning("location_cache.shared_pool is enabled but Redis location-cache storage is off - shared pool disabled.");
+            enabled = false;
+            return;
+        }
+
+        this.surplusPerWorld = Math.max(0, plugin.getConfig().getInt("location_cache.shared_pool.surplus_per_world", 10));
+        this.entryTtlSeconds = Math.max(10, plugin.getConfig().getInt("location_cache.shared_pool.entry_ttl_seconds", 300));
+        this.pauseAboveMspt = plugin.getConfig().getDouble("location_cache.pause_above_mspt", 40.0);
+        long interval = Math.max(1L, plugin.getConfig().getLong("location_cache.shared_pool.publish_interval_seconds", 10)) * 20L;
+
+        publishTask = plugin.getFoliaScheduler().runTimer(this::publishSurplus, 200L, interval);
+        plugin.getLogger().info("Shared location pool enabled. Publishing up to " + surplusPerWorld + " surplus locations per world (TTL: " + entryTtlSeconds + "s).");
+    }
+
+    public void shutdown() {
+        if (publishTask != null && !publishTask.isCancelled()) {
+            publishTask.cancel();
+        }
+        publishTask = null;
+        publishing.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void publishSurplus() {
+        if (surplusPerWorld <= 0 || ServerLoad.isAboveMspt(pauseAboveMspt)) {
+            return;
+        }
+
+        LocationCacheManager cacheManager = plugin.getLocationCacheManager();
+        String thisServer = plugin.getConfigManager().getProxyThisServerName();
+        for (String worldName : cacheManager.getCachedWorldNames()) {
+            World world = plugin.getServer().getWorld(worldName);
+            if (world == null || !cacheManager.isCacheFull(world) || !publishing.add(worldName)) {
+                continue;
+            }
+
+            String poolName = getPoolName(thisServer, worldName);
+            plugin.getFoliaScheduler().runAsync(() -> {
+                if (!plugin.getDataManager().isRedisConnected() || !isRedisStorageActive()) {
+                    publishing.remove(worldName);
+                    return;
+                }
+
+                RedisManager redis = plugin.getDataManager().getRedisManager();
+                String key = redis.getLocationCacheKey(poolName, "locations");
+                redis.llen(key)
+                        .thenCompose(size -> {
+                            if (size == null || size < surplusPerWorld) {
+                                return publish(world, poolName, key);
+                            }
+                            // Newest entries sit at the head; a stale tail means the pool only looks full.
+                            return redis.lindex(key, -1).thenCompose(oldest -> {
+                                Optional<SharedLocation> parsed = SharedLocation.parse(oldest);
+                                if (parsed.isPresent() && !parsed.get().isExpired()) {
+                                    return CompletableFuture.completedFuture(false);
+                                }
+                                return publish(world, poolName, key);
+                            });
+                        })
+                        .whenComplete((published, throwable) -> {
+                            publishing.remove(worldName);
+                            if (throwable != null) {
+                                plugin.debug("[SharedPool] Failed to publish surplus location for " + poolName + ": " + throwable.getMessage());
+                            } else if (Boolean.TRUE.equals(published)) {
+                                plugin.debug("[SharedPool] Published surplus location for " + poolName);
+                            }
+                        });
+            });
+        }
+    }
+
+    private CompletableFuture<Boolean> publish(World world, String poolName, String key) {
+        return plugin.getRtpService().findSafeLocationForCache(world).thenCompose(locationOpt -> {
+            // the search can outlive a failover to memory storage, which would keep the entry local
+            if (locationOpt.isEmpty() || !isRedisStorageActive()) {
+                return CompletableFuture.completedFuture(false);
+            }
+            SharedLocation shared = SharedLocation.of(locationOpt.get(), entryTtlSeconds);
+            return plugin.getDataManager().cacheLocation(poolName, shared.serialize())
+                    .thenCompose(v -> plugin.getDataManager().getRedisManager().ltrim(key, 0, surplusPerWorld - 1))
+                    .thenApply(v -> true);
+        });
+    }
+
+    public CompletableFuture<Optional<SharedLocation>> claim(String serverName, String worldName) {
+        if (!enabled || serverName == null || worldName == null || worldName.isEmpty() || !isRedisStorageActive()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return claimAttempt(getPoolName(serverName, worldName), MAX_CLAIM_ATTEMPTS);
+    }
+
+    private CompletableFuture<Optional<SharedLocation>> claimAttempt(String poolName, int attemptsLeft) {
+        if (attemptsLeft <= 0) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return plugin.getDataManager().getCachedLocation(poolName).thenCompose(dataOpt -> {
+            if (dataOpt.isEmpty()) {
+                return CompletableFuture.completedFuture(Optional.<SharedLocation>empty());
+            }
+            Optional<SharedLocation> shared = SharedLocation.parse(dataOpt.get());
+            if (shared.isEmpty() || shared.get().isExpired()) {
+                plugin.debug("[SharedPool] Discarded expired or invalid entry from " + poolName);
+                return claimAttempt(poolName, attemptsLeft - 1);
+            }
+            plugin.debug("[SharedPool] Claimed location from " + poolName + ": " + dataOpt.get());
+            return CompletableFuture.completedFuture(shared);
+        }).exceptionally(throwable -> {
+            plugin.debug("[SharedPool] Failed to claim location from " + poolName + ": " + throwable.getMessage());
+            return Optional.empty();
+        });
+    }
+
+    // cacheLocation only reaches the shared Redis list while Redis is the primary location-cache store
+    private boolean isRedisStorageActive() {
+        DataManager dataManager = plugin.getDataManager();
+        return dataManager.getRedisManager().isLocationCacheEnabled()
+                && dataManager.getPrimaryStorage() instanceof RedisDataStorage;
+    }
+
+    private String getPoolName(String serverName, String worldName) {
+        return "shared:" + serverName + ":" + worldName;
+    }
+}
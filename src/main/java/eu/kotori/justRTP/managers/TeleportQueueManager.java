@@ -1,14 +1,29 @@
 package eu.kotori.justRTP.managers;
 
 import eu.kotori.justRTP.JustRTP;
+import eu.kotori.justRTP.events.PlayerRTPQueueUpdateEvent;
+import eu.kotori.justRTP.handlers.RTPService;
+import eu.kotori.justRTP.utils.FoliaScheduler;
+import eu.kotori.justRTP.utils.SafetyValidator;
+import eu.kotori.justRTP.utils.ServerLoad;
+import eu.kotori.justRTP.utils.task.CancellableTask;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TeleportQueueManager {
     private record TeleportRequest(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, CompletableFuture<Boolean> future, long timestamp, int centerX, int centerZ, double cost) {
@@ -19,10 +34,102 @@ public class TeleportQueueManager {
             this(player, world, minRadius, maxRadius, future, timestamp, centerX, centerZ, 0.0);
         }
     }
+
+    private record LaneSpec(String name, String permission, int weight) {}
+
+    public enum ShedPolicy {
+        REJECT_NEWEST,
+        REJECT_LOWEST_PRIORITY,
+        CACHE_ONLY
+    }
+
+    public record QueueMetrics(int queued, int activeSearches, int batchSize, long admitted, long rejected, long evicted, long redirected, long expired) {}
+
+    private static final class Lane {
+        final LaneSpec spec;
+        final ConcurrentLinkedQueue<TeleportRequest> requests = new ConcurrentLinkedQueue<>();
+        final AtomicLong enqueued = new AtomicLong();
+        final AtomicLong dequeued = new AtomicLong();
+        int currentWeight;
+
+        Lane(LaneSpec spec) {
+            this.spec = spec;
+        }
+
+        long add(TeleportRequest request) {
+            long sequence = enqueued.getAndIncrement();
+            requests.add(request);
+            return sequence;
+        }
+
+        TeleportRequest poll() {
+            TeleportRequest request = requests.poll();
+            if (request != null) {
+                dequeued.incrementAndGet();
+            }
+            return request;
+        }
+
+        long size() {
+            return Math.max(0, enqueued.get() - dequeued.get());
+        }
+    }
+
+    private record QueueTicket(Shard shard, Lane lane, long sequence) {}
+
+    public record QueuePosition(int position, int queueSize, long etaMillis) {}
+
+    private static final class Shard {
+        final String key;
+        final Location anchor;
+        final AtomicBoolean processing = new AtomicBoolean(false);
+        final AtomicInteger size = new AtomicInteger();
+        volatile List<Lane> lanes;
+
+        Shard(String key, Location anchor, List<Lane> lanes) {
+            this.key = key;
+            this.anchor = anchor;
+            this.lanes = lanes;
+        }
+    }
+
     private final JustRTP plugin;
-    private final ConcurrentLinkedQueue<TeleportRequest> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<UUID, TeleportRequest> queued = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Shard> shards = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, AtomicBoolean> processingPlayers = new ConcurrentHashMap<>();
-    private final AtomicBoolean isProcessing = new AtomicBoolean(false);
+    private final AtomicInteger activeSearches = new AtomicInteger();
+    private final ConcurrentHashMap<String, AtomicInteger> worldQueueSizes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, QueueTicket> tickets = new ConcurrentHashMap<>();
+    private final AtomicLong servedCount = new AtomicLong();
+    private final AtomicLong admittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong redirectedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private volatile List<LaneSpec> laneSpecs = List.of(new LaneSpec("default", null, 1));
+    private CancellableTask processTask;
+    private CancellableTask updateTask;
+    private long lastServedSample;
+    private long lastSampleTime;
+    private volatile double servedPerSecond;
+    private int shardRegionSize;
+    private int shardCursor;
+    private boolean adaptive;
+    private double targetMspt;
+    private int minBatchSize;
+    private int maxBatchSize;
+    private int maxActiveSearches;
+    private double increaseStep;
+    private double decreaseFactor;
+    private volatile double adaptiveBatchSize;
+    private boolean coalesce;
+    private int maxGroupSize;
+    private int groupSeparation;
+    private long periodTicks = 4L;
+    private int globalCapacity;
+    private int worldCapacity;
+    private long maxWaitMillis = 60000L;
+    private ShedPolicy shedPolicy = ShedPolicy.REJECT_NEWEST;
 
     public TeleportQueueManager(JustRTP plugin) {
         this.plugin = plugin;
@@ -34,84 +141,503 @@ public class TeleportQueueManager {
     }
 
     private void start() {
+        if (processTask != null && !processTask.isCancelled()) {
+            processTask.cancel();
+        }
+        if (updateTask != null && !updateTask.isCancelled()) {
+            updateTask.cancel();
+        }
+        processTask = null;
+        updateTask = null;
+        this.shardRegionSize = Math.max(0, plugin.getConfig().getInt("performance.queue_shard_region_size", 0));
+        this.globalCapacity = plugin.getConfig().getInt("performance.queue_limits.global_capacity", 200);
+        this.worldCapacity = plugin.getConfig().getInt("performance.queue_limits.per_world_capacity", 100);
+        this.maxWaitMillis = Math.max(5, plugin.getConfig().getInt("performance.queue_limits.max_wait_seconds", 60)) * 1000L;
+        String policy = plugin.getConfig().getString("performance.queue_limits.policy", "REJECT_NEWEST");
+        try {
+            this.shedPolicy = ShedPolicy.valueOf(policy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown queue_limits.policy '" + policy + "', using REJECT_NEWEST.");
+            this.shedPolicy = ShedPolicy.REJECT_NEWEST;
+        }
+        loadLanes();
+
         boolean useQueue = plugin.getConfig().getBoolean("performance.use_teleport_queue", true);
         if (!useQueue) return;
         long rate = 20L / plugin.getConfig().getLong("performance.queue_processing_rate", 5);
         if (rate <= 0) rate = 1L;
+        this.periodTicks = rate;
         int batchSize = plugin.getConfig().getInt("performance.queue_batch_size", 1);
         if (batchSize <= 0) batchSize = 1;
 
+        this.adaptive = plugin.getConfig().getBoolean("performance.adaptive_queue.enabled", false);
+        this.targetMspt = plugin.getConfig().getDouble("performance.adaptive_queue.target_mspt", 35.0);
+        this.minBatchSize = Math.max(1, plugin.getConfig().getInt("performance.adaptive_queue.min_batch_size", 1));
+        this.maxBatchSize = Math.max(minBatchSize, plugin.getConfig().getInt("performance.adaptive_queue.max_batch_size", 20));
+        this.maxActiveSearches = Math.max(1, plugin.getConfig().getInt("performance.adaptive_queue.max_active_searches", 20));
+        this.increaseStep = Math.max(0.1, plugin.getConfig().getDouble("performance.adaptive_queue.increase_step", 1.0));
+        this.decreaseFactor = Math.min(0.95, Math.max(0.1, plugin.getConfig().getDouble("performance.adaptive_queue.decrease_factor", 0.5)));
+        this.adaptiveBatchSize = Math.max(minBatchSize, Math.min(maxBatchSize, batchSize));
+        this.coalesce = plugin.getConfig().getBoolean("performance.queue_coalescing.enabled", false);
+        this.maxGroupSize = Math.max(2, plugin.getConfig().getInt("performance.queue_coalescing.max_group_size", 10));
+        this.groupSeparation = Math.max(0, plugin.getConfig().getInt("performance.queue_coalescing.min_separation", 32));
+
         final int finalBatchSize = batchSize;
-        plugin.getFoliaScheduler().runTimer(() -> {
-            if (!isProcessing.compareAndSet(false, true)) {
-                plugin.debug("Queue processing already in progress, skipping this tick");
-                return;
+        processTask = plugin.getFoliaScheduler().runTimer(() -> {
+            sampleServiceRate();
+            if (queued.isEmpty()) return;
+            int budget = adaptive ? adjustBatchSize() : finalBatchSize;
+            dispatchShards(budget);
+        }, 1L, rate);
+
+        long updateInterval = plugin.getConfig().getLong("performance.queue_updates.interval_ticks", 20L);
+        if (updateInterval > 0) {
+            updateTask = plugin.getFoliaScheduler().runTimer(this::publishPositions, updateInterval, updateInterval);
+        }
+    }
+
+    private void sampleServiceRate() {
+        long now = System.currentTimeMillis();
+        long served = servedCount.get();
+        if (lastSampleTime > 0 && now > lastSampleTime && (served > lastServedSample || !queued.isEmpty())) {
+            double rate = (served - lastServedSample) * 1000.0 / (now - lastSampleTime);
+            servedPerSecond = servedPerSecond <= 0 ? rate : servedPerSecond * 0.8 + rate * 0.2;
+        }
+        lastServedSample = served;
+        lastSampleTime = now;
+    }
+
+    private void publishPositions() {
+        if (queued.isEmpty()) return;
+        int queueSize = queued.size();
+        for (UUID playerUUID : tickets.keySet()) {
+            TeleportRequest request = queued.get(playerUUID);
+            if (request == null) continue;
+            getQueuePosition(playerUUID).ifPresent(position -> {
+                Player player = request.player();
+                plugin.getFoliaScheduler().runAtEntity(player, () -> {
+                    if (!player.isOnline() || !queued.containsKey(player.getUniqueId())) return;
+                    plugin.getServer().getPluginManager().callEvent(new PlayerRTPQueueUpdateEvent(player, request.world(), position.position(), queueSize, position.etaMillis()));
+                    plugin.getEffectsManager().sendInQueueActionBar(player, position.position(), queueSize, position.etaMillis());
+                });
+            });
+        }
+    }
+
+    private void dispatchShards(int budget) {
+        List<Shard> pending = new ArrayList<>();
+        for (Shard shard : shards.values()) {
+            if (shard.size.get() > 0 && !shard.processing.get()) {
+                pending.add(shard);
             }
-            
-            try {
-                for (int i = 0; i < finalBatchSize && !queue.isEmpty(); i++) {
-                    TeleportRequest request = queue.poll();
-                    if (request == null) break;
-                    
-                    Player player = request.player();
-                    UUID playerUUID = player.getUniqueId();
-                    
-                    AtomicBoolean processing = processingPlayers.computeIfAbsent(playerUUID, k -> new AtomicBoolean(false));
-                    if (!processing.compareAndSet(false, true)) {
-                        plugin.debug("Player " + player.getName() + " is already being processed, skipping duplicate request");
-                        request.future().complete(false);
-                        continue;
+        }
+        if (pending.isEmpty()) return;
+
+        int[] allocation = new int[pending.size()];
+        int offset = Math.floorMod(shardCursor++, pending.size());
+        int remaining = budget;
+        boolean allocated = true;
+        while (remaining > 0 && allocated) {
+            allocated = false;
+            for (int i = 0; i < pending.size() && remaining > 0; i++) {
+                int index = (offset + i) % pending.size();
+                if (allocation[index] < pending.get(index).size.get()) {
+                    allocation[index]++;
+                    remaining--;
+                    allocated = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < pending.size(); i++) {
+            if (allocation[i] <= 0) continue;
+            Shard shard = pending.get(i);
+            int amount = allocation[i];
+            Runnable drain = () -> drainShard(shard, amount);
+            if (FoliaScheduler.isFolia()) {
+                plugin.getFoliaScheduler().runAtLocation(shard.anchor, drain);
+            } else {
+                drain.run();
+            }
+        }
+    }
+
+    private void drainShard(Shard shard, int amount) {
+        if (!shard.processing.compareAndSet(false, true)) {
+            plugin.debug("Queue shard " + shard.key + " is already being processed, skipping this run");
+            return;
+        }
+        try {
+            Map<RTPService.SearchArea, List<TeleportRequest>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < amount; i++) {
+                if (adaptive && activeSearches.get() >= maxActiveSearches) {
+                    break;
+                }
+                TeleportRequest request = pollNext(shard);
+                if (request == null) break;
+                if (!admit(request)) continue;
+
+                if (!coalesce) {
+                    processRequest(request);
+                    continue;
+                }
+                Optional<Location> cached = takeCachedLocation(request.player(), request.world(), request.minRadius(), request.maxRadius(), request.centerX(), request.centerZ());
+                if (cached.isPresent()) {
+                    activeSearches.incrementAndGet();
+                    validateCached(request, cached.get()).whenComplete((locationOpt, throwable) -> {
+                        activeSearches.decrementAndGet();
+                        complete(request, locationOpt, throwable);
+                    });
+                    continue;
+                }
+                // resolved with each player's own permission group, so only truly identical searches share a group
+                RTPService.SearchArea area = plugin.getRtpService().resolveSearchArea(request.player(), request.world(),
+                        request.minRadius(), request.maxRadius(), request.centerX(), request.centerZ(), true);
+                List<TeleportRequest> group = groups.computeIfAbsent(area, k -> new ArrayList<>());
+                group.add(request);
+                if (group.size() >= maxGroupSize) {
+                    groups.remove(area);
+                    processGroup(area, group);
+                }
+            }
+            groups.forEach(this::processGroup);
+        } finally {
+            shard.processing.set(false);
+        }
+    }
+
+    private boolean admit(TeleportRequest request) {
+        Player player = request.player();
+        UUID playerUUID = player.getUniqueId();
+
+        AtomicBoolean processing = processingPlayers.computeIfAbsent(playerUUID, k -> new AtomicBoolean(false));
+        if (!processing.compareAndSet(false, true)) {
+            plugin.debug("Player " + player.getName() + " is already being processed, skipping duplicate request");
+            request.future().complete(false);
+            return false;
+        }
+
+        if (!player.isOnline()) {
+            plugin.debug("Player " + player.getName() + " went offline before processing");
+            processingPlayers.remove(playerUUID);
+            request.future().complete(false);
+            return false;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        if ((currentTime - request.timestamp()) > maxWaitMillis) {
+            plugin.debug("Teleport request for " + player.getName() + " timed out (>" + (maxWaitMillis / 1000) + "s in queue)");
+            expiredCount.incrementAndGet();
+            processingPlayers.remove(playerUUID);
+            plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
+            request.future().complete(false);
+            return false;
+        }
+        return true;
+    }
+
+    private void processRequest(TeleportRequest request) {
+        activeSearches.incrementAndGet();
+        locate(request.player(), request.world(), request.minRadius(), request.maxRadius(), request.centerX(), request.centerZ())
+                .whenComplete((locationOpt, throwable) -> {
+                    activeSearches.decrementAndGet();
+                    complete(request, locationOpt, throwable);
+                });
+    }
+
+    private void processGroup(RTPService.SearchArea area, List<TeleportRequest> group) {
+        if (group.size() == 1) {
+            processRequest(group.get(0));
+            return;
+        }
+
+        plugin.debug("Coalescing " + group.size() + " queued teleports into one batched search in " + area.world().getName());
+        activeSearches.incrementAndGet();
+        plugin.getRtpService().findSafeLocations(area, group.size(), groupSeparation)
+                .whenComplete((locations, throwable) -> {
+                    activeSearches.decrementAndGet();
+                    if (throwable != null) {
+                        plugin.debug("Batched search in " + area.world().getName() + " failed, searching per player: " + throwable.getMessage());
                     }
-                    
-                    if (!player.isOnline()) {
-                        plugin.debug("Player " + player.getName() + " went offline before processing");
-                        processingPlayers.remove(playerUUID);
-                        request.future().complete(false);
-                        continue;
+                    LandingLeaseManager landingLeases = plugin.getLandingLeaseManager();
+                    int next = 0;
+                    for (TeleportRequest member : group) {
+                        Location spot = null;
+                        while (throwable == null && spot == null && next < locations.size()) {
+                            Location candidate = locations.get(next++);
+                            if (landingLeases.tryLease(candidate)) {
+                                spot = candidate;
+                            }
+                        }
+                        if (spot != null) {
+                            complete(member, Optional.of(spot), null);
+                        } else {
+                            // the batch ran dry or lost a spot to another landing; this player searches on their own
+                            processRequest(member);
+                        }
                     }
-                    
-                    long currentTime = System.currentTimeMillis();
-                    if ((currentTime - request.timestamp()) > 60000) {
-                        plugin.debug("Teleport request for " + player.getName() + " timed out (>60s in queue)");
-                        processingPlayers.remove(playerUUID);
-                        plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                        request.future().complete(false);
-                        continue;
+                });
+    }
+
+    private void complete(TeleportRequest request, Optional<Location> locationOpt, Throwable throwable) {
+        Player player = request.player();
+        try {
+            if (throwable != null) {
+                plugin.getLogger().severe("Error finding safe location for " + player.getName() + ": " + throwable.getMessage());
+                plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
+                request.future().complete(false);
+            } else if (locationOpt.isPresent()) {
+                if (player.isOnline()) {
+                    plugin.getRtpService().teleportPlayer(player, locationOpt.get(),
+                        request.minRadius().orElse(null),
+                        request.maxRadius().orElse(null),
+                        request.cost(),
+                        false,
+                        null);
+                    request.future().complete(true);
+                } else {
+                    plugin.debug("Player " + player.getName() + " went offline before teleport");
+                    request.future().complete(false);
+                }
+            } else {
+                plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
+                request.future().complete(false);
+            }
+        } finally {
+            processingPlayers.remove(player.getUniqueId());
+        }
+    }
+
+    private int adjustBatchSize() {
+        double mspt = ServerLoad.getAverageMspt();
+        double current = adaptiveBatchSize;
+        if (mspt >= 0 && mspt > targetMspt) {
+            current = Math.max(minBatchSize, current * decreaseFactor);
+        } else if (!queued.isEmpty() && activeSearches.get() < maxActiveSearches) {
+            current = Math.min(maxBatchSize, current + increaseStep);
+        }
+        if ((int) current != (int) adaptiveBatchSize) {
+            plugin.debug("Adaptive queue batch size: " + (int) adaptiveBatchSize + " -> " + (int) current
+                    + " (MSPT: " + String.format("%.1f", mspt) + ", active searches: " + activeSearches.get() + ")");
+        }
+        adaptiveBatchSize = current;
+        return (int) current;
+    }
+
+    public int getCurrentBatchSize() {
+        return adaptive ? (int) adaptiveBatchSize : Math.max(1, plugin.getConfig().getInt("performance.queue_batch_size", 1));
+    }
+
+    private void loadLanes() {
+        List<LaneSpec> loaded = new ArrayList<>();
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("performance.queue_lanes");
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                String permission = section.getString(name + ".permission", "");
+                if (permission.isEmpty()) {
+                    plugin.getLogger().warning("Queue lane '" + name + "' has no permission and will be ignored.");
+                    continue;
+                }
+                loaded.add(new LaneSpec(name, permission, Math.max(1, section.getInt(name + ".weight", 1))));
+            }
+        }
+        loaded.add(new LaneSpec("default", null, Math.max(1, plugin.getConfig().getInt("performance.queue_default_weight", 1))));
+        this.laneSpecs = List.copyOf(loaded);
+
+        for (Shard shard : shards.values()) {
+            migrateLanes(shard);
+        }
+    }
+
+    private List<Lane> createLanes() {
+        List<Lane> lanes = new ArrayList<>();
+        for (LaneSpec spec : laneSpecs) {
+            lanes.add(new Lane(spec));
+        }
+        return List.copyOf(lanes);
+    }
+
+    // Enqueueing holds the shard lock, so no request can reach the old lanes after the swap.
+    // Draining them with poll() keeps a request from being both moved and served by a running tick.
+    private void migrateLanes(Shard shard) {
+        List<Lane> lanes = createLanes();
+        Map<String, Lane> byName = new HashMap<>();
+        for (Lane lane : lanes) {
+            byName.put(lane.spec.name(), lane);
+        }
+        Lane fallback = lanes.get(lanes.size() - 1);
+        synchronized (shard) {
+            List<Lane> oldLanes = shard.lanes;
+            shard.lanes = lanes;
+            for (Lane old : oldLanes) {
+                Lane target = byName.getOrDefault(old.spec.name(), fallback);
+                TeleportRequest request;
+                while ((request = old.poll()) != null) {
+                    long sequence = target.add(request);
+                    UUID playerUUID = request.player().getUniqueId();
+                    if (queued.get(playerUUID) == request) {
+                        tickets.put(playerUUID, new QueueTicket(shard, target, sequence));
                     }
-                    
-                    plugin.getRtpService().findSafeLocation(player, request.world(), 0, request.minRadius(), request.maxRadius(), request.centerX(), request.centerZ())
-                            .whenComplete((locationOpt, throwable) -> {
-                                try {
-                                    if (throwable != null) {
-                                        plugin.getLogger().severe("Error finding safe location for " + player.getName() + ": " + throwable.getMessage());
-                                        plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                                        request.future().complete(false);
-                                    } else if (locationOpt.isPresent()) {
-                                        if (player.isOnline()) {
-                                            plugin.getRtpService().teleportPlayer(player, locationOpt.get(), 
-                                                request.minRadius().orElse(null), 
-                                                request.maxRadius().orElse(null), 
-                                                request.cost(), 
-                                                false, 
-                                                null);
-                                            request.future().complete(true);
-                                        } else {
-                                            plugin.debug("Player " + player.getName() + " went offline before teleport");
-                                            request.future().complete(false);
-                                        }
-                                    } else {
-                                        plugin.getLocaleManager().sendMessage(player, "teleport.no_location_found");
-                                        request.future().complete(false);
-                                    }
-                                } finally {
-                                    processingPlayers.remove(playerUUID);
-                                }
-                            });
                 }
-            } finally {
-                isProcessing.set(false);
             }
-        }, 1L, rate);
+        }
+    }
+
+    private int laneIndexFor(Player player) {
+        List<LaneSpec> specs = laneSpecs;
+        for (int i = 0; i < specs.size(); i++) {
+            String permission = specs.get(i).permission();
+            if (permission == null || player.hasPermission(permission)) {
+                return i;
+            }
+        }
+        return specs.size() - 1;
+    }
+
+    private Shard shardFor(World world, int centerX, int centerZ) {
+        String key = world.getName();
+        if (shardRegionSize > 0) {
+            key += ":" + Math.floorDiv(centerX, shardRegionSize) + ":" + Math.floorDiv(centerZ, shardRegionSize);
+        }
+        return shards.computeIfAbsent(key, k -> new Shard(k, new Location(world, centerX, 64, centerZ), createLanes()));
+    }
+
+    private TeleportRequest pollNext(Shard shard) {
+        List<Lane> current = shard.lanes;
+        while (shard.size.get() > 0) {
+            Lane selected = null;
+            int totalWeight = 0;
+            for (Lane lane : current) {
+                if (lane.requests.isEmpty()) continue;
+                lane.currentWeight += lane.spec.weight();
+                totalWeight += lane.spec.weight();
+                if (selected == null || lane.currentWeight > selected.currentWeight) {
+                    selected = lane;
+                }
+            }
+            if (selected == null) {
+                return null;
+            }
+            selected.currentWeight -= totalWeight;
+
+            TeleportRequest request = selected.poll();
+            if (request == null) continue;
+            shard.size.decrementAndGet();
+            if (queued.remove(request.player().getUniqueId(), request)) {
+                onDequeued(request);
+                servedCount.incrementAndGet();
+                return request;
+            }
+        }
+        return null;
+    }
+
+    private void onDequeued(TeleportRequest request) {
+        tickets.remove(request.player().getUniqueId());
+        AtomicInteger worldSize = worldQueueSizes.get(request.world().getName());
+        if (worldSize != null) {
+            worldSize.decrementAndGet();
+        }
+    }
+
+    private int getWorldQueueSize(World world) {
+        AtomicInteger worldSize = worldQueueSizes.get(world.getName());
+        return worldSize != null ? worldSize.get() : 0;
+    }
+
+    private boolean isOverloaded(World world) {
+        if (globalCapacity > 0 && queued.size() >= globalCapacity) return true;
+        if (worldCapacity > 0 && getWorldQueueSize(world) >= worldCapacity) return true;
+        return getEstimatedWaitMillis(queued.size() + 1) > maxWaitMillis;
+    }
+
+    private long getEstimatedWaitMillis(int position) {
+        double perSecond = getCurrentBatchSize() * (20.0 / periodTicks);
+        return perSecond <= 0 ? Long.MAX_VALUE : (long) (position / perSecond * 1000);
+    }
+
+    private boolean evictLowerPriority(World world, int laneIndex) {
+        boolean worldFull = worldCapacity > 0 && getWorldQueueSize(world) >= worldCapacity;
+        for (int index = laneSpecs.size() - 1; index > laneIndex; index--) {
+            for (Shard shard : shards.values()) {
+                if (worldFull && !shard.anchor.getWorld().equals(world)) continue;
+                if (index >= shard.lanes.size()) continue;
+                Lane lane = shard.lanes.get(index);
+                TeleportRequest victim;
+                while ((victim = lane.poll()) != null) {
+                    shard.size.decrementAndGet();
+                    if (queued.remove(victim.player().getUniqueId(), victim)) {
+                        onDequeued(victim);
+                        evictedCount.incrementAndGet();
+                        plugin.debug("Evicted queued teleport of " + victim.player().getName() + " (lane: " + lane.spec.name() + ") to make room for a higher priority request");
+                        plugin.getLocaleManager().sendMessage(victim.player(), "teleport.queue_full");
+                        victim.future().complete(false);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean shed(Player player, World world, int laneIndex, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ, double cost, CompletableFuture<Boolean> future) {
+        switch (shedPolicy) {
+            case REJECT_LOWEST_PRIORITY:
+                if (evictLowerPriority(world, laneIndex)) {
+                    return false;
+                }
+                break;
+            case CACHE_ONLY:
+                Optional<Location> cached = takeCachedLocation(player, world, minRadius, maxRadius, centerX, centerZ);
+                if (cached.isPresent()) {
+                    redirectedCount.incrementAndGet();
+                    plugin.debug("Queue is full, serving " + player.getName() + " directly from the location cache");
+                    TeleportRequest request = new TeleportRequest(player, world, minRadius, maxRadius, future, System.currentTimeMillis(), centerX, centerZ, cost);
+                    if (admit(request)) {
+                        validateCached(request, cached.get()).whenComplete((locationOpt, throwable) -> complete(request, locationOpt, throwable));
+                    }
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        rejectedCount.incrementAndGet();
+        plugin.debug("Rejected teleport request of " + player.getName() + " - queue is full (queued: " + queued.size() + ", in " + world.getName() + ": " + getWorldQueueSize(world) + ")");
+        plugin.getLocaleManager().sendMessage(player, "teleport.queue_full");
+        future.complete(false);
+        return true;
+    }
+
+    private CompletableFuture<Optional<Location>> locate(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ) {
+        Optional<Location> cached = takeCachedLocation(player, world, minRadius, maxRadius, centerX, centerZ);
+        if (cached.isPresent()) {
+            return validateCached(player, world, cached.get(), minRadius, maxRadius, centerX, centerZ);
+        }
+        return plugin.getRtpService().findSafeLocation(player, world, 0, minRadius, maxRadius, centerX, centerZ);
+    }
+
+    private Optional<Location> takeCachedLocation(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ) {
+        if (plugin.getConfigManager().isCacheEnabledForWorld(world)
+                && plugin.getRtpService().matchesCacheSettings(player, world, minRadius, maxRadius, centerX, centerZ)) {
+            return plugin.getLocationCacheManager().getLocation(world);
+        }
+        return Optional.empty();
+    }
+
+    private CompletableFuture<Optional<Location>> validateCached(TeleportRequest request, Location location) {
+        return validateCached(request.player(), request.world(), location, request.minRadius(), request.maxRadius(), request.centerX(), request.centerZ());
+    }
+
+    private CompletableFuture<Optional<Location>> validateCached(Player player, World world, Location location, Optional<Integer> minRadius, Optional<Integer> maxRadius, int centerX, int centerZ) {
+        return SafetyValidator.isLocationAbsolutelySafeAsync(location).thenCompose(safe -> {
+            if (safe) {
+                plugin.debug("Serving " + player.getName() + " from the location cache for world " + world.getName());
+                return CompletableFuture.completedFuture(Optional.of(location));
+            }
+            plugin.debug("Cached location in " + world.getName() + " is no longer safe, searching instead");
+            return plugin.getRtpService().findSafeLocation(player, world, 0, minRadius, maxRadius, centerX, centerZ);
+        });
     }
 
     public CompletableFuture<Boolean> requestTeleport(Player player, World world, Optional<Integer> minRadius, Optional<Integer> maxRadius) {
@@ -138,22 +664,60 @@ public class TeleportQueueManager {
             return future;
         }
         
+        if (!queued.containsKey(playerUUID)) {
+            Optional<CompletableFuture<Optional<Location>>> reserved = plugin.getLocationReservationManager().take(player, world, minRadius, maxRadius, centerX, centerZ);
+            if (reserved.isPresent()) {
+                TeleportRequest request = new TeleportRequest(player, world, minRadius, maxRadius, future, System.currentTimeMillis(), centerX, centerZ, cost);
+                if (admit(request)) {
+                    reserved.get().thenCompose(locationOpt -> {
+                        if (locationOpt.isEmpty()) {
+                            return plugin.getRtpService().findSafeLocation(player, world, 0, minRadius, maxRadius, centerX, centerZ);
+                        }
+                        return SafetyValidator.isLocationAbsolutelySafeAsync(locationOpt.get()).thenCompose(safe -> safe
+                                ? CompletableFuture.completedFuture(locationOpt)
+                                : plugin.getRtpService().findSafeLocation(player, world, 0, minRadius, maxRadius, centerX, centerZ));
+                    }).whenComplete((locationOpt, throwable) -> complete(request, locationOpt, throwable));
+                }
+                return future;
+            }
+        }
+
         boolean useQueue = plugin.getConfig().getBoolean("performance.use_teleport_queue", true);
         if (useQueue) {
-            boolean alreadyInQueue = queue.stream()
-                    .anyMatch(req -> req.player().getUniqueId().equals(playerUUID));
-            
-            if (alreadyInQueue) {
+            if (queued.containsKey(playerUUID)) {
                 plugin.debug("Player " + player.getName() + " already has a teleport request in queue");
                 plugin.getLocaleManager().sendMessage(player, "teleport.already_in_progress");
                 future.complete(false);
                 return future;
             }
-            
+
+            int laneIndex = laneIndexFor(player);
+            if (isOverloaded(world) && shed(player, world, laneIndex, minRadius, maxRadius, centerX, centerZ, cost, future)) {
+                return future;
+            }
+
             long timestamp = System.currentTimeMillis();
-            queue.add(new TeleportRequest(player, world, minRadius, maxRadius, future, timestamp, centerX, centerZ, cost));
-            plugin.getEffectsManager().applyEffects(player, plugin.getConfig().getConfigurationSection("effects.in_queue_action_bar"));
-            plugin.debug("Added teleport request to queue for " + player.getName() + " (queue size: " + queue.size() + ", center: " + centerX + ", " + centerZ + ")");
+            TeleportRequest request = new TeleportRequest(player, world, minRadius, maxRadius, future, timestamp, centerX, centerZ, cost);
+            if (queued.putIfAbsent(playerUUID, request) != null) {
+                plugin.debug("Player " + player.getName() + " already has a teleport request in queue");
+                plugin.getLocaleManager().sendMessage(player, "teleport.already_in_progress");
+                future.complete(false);
+                return future;
+            }
+
+            Shard shard = shardFor(world, centerX, centerZ);
+            Lane lane;
+            synchronized (shard) {
+                List<Lane> lanes = shard.lanes;
+                lane = lanes.get(Math.min(laneIndex, lanes.size() - 1));
+                tickets.put(playerUUID, new QueueTicket(shard, lane, lane.add(request)));
+            }
+            worldQueueSizes.computeIfAbsent(world.getName(), k -> new AtomicInteger()).incrementAndGet();
+            shard.size.incrementAndGet();
+            admittedCount.incrementAndGet();
+            getQueuePosition(playerUUID).ifPresent(position ->
+                    plugin.getEffectsManager().sendInQueueActionBar(player, position.position(), queued.size(), position.etaMillis()));
+            plugin.debug("Added teleport request to queue for " + player.getName() + " (shard: " + shard.key + ", lane: " + lane.spec.name() + ", queue size: " + queued.size() + ", center: " + centerX + ", " + centerZ + ")");
         } else {
             AtomicBoolean directProcessing = processingPlayers.computeIfAbsent(playerUUID, k -> new AtomicBoolean(false));
             if (!directProcessing.compareAndSet(false, true)) {
@@ -163,7 +727,7 @@ public class TeleportQueueManager {
                 return future;
             }
             
-            plugin.getRtpService().findSafeLocation(player, world, 0, minRadius, maxRadius, centerX, centerZ)
+            locate(player, world, minRadius, maxRadius, centerX, centerZ)
                     .whenComplete((locationOpt, throwable) -> {
                         try {
                             if (throwable != null) {
@@ -203,26 +767,58 @@ public class TeleportQueueManager {
             plugin.debug("Cancelled in-progress teleport for " + player.getName());
         }
         
-        int removed = 0;
-        boolean moreToRemove = true;
-        while (moreToRemove) {
-            moreToRemove = queue.removeIf(request -> {
-                if (request.player() != null && request.player().getUniqueId().equals(playerUUID)) {
-                    request.future().complete(false);
-                    return true;
-                }
-                return false;
-            });
-            if (moreToRemove) removed++;
-        }
-        
-        if (removed > 0) {
-            plugin.debug("Cancelled " + removed + " queued teleport request(s) for " + player.getName());
+        plugin.getLocationReservationManager().discard(playerUUID);
+
+        TeleportRequest removed = queued.remove(playerUUID);
+        if (removed != null) {
+            onDequeued(removed);
+            removed.future().complete(false);
+            plugin.debug("Cancelled queued teleport request for " + player.getName());
         }
     }
     
     public int getQueueSize() {
-        return queue.size();
+        return queued.size();
+    }
+
+    public Optional<QueuePosition> getQueuePosition(UUID playerUUID) {
+        QueueTicket ticket = tickets.get(playerUUID);
+        if (ticket == null) {
+            return Optional.empty();
+        }
+
+        Shard shard = ticket.shard();
+        long lanePosition = Math.max(1, ticket.sequence() - ticket.lane().dequeued.get() + 1);
+        double ownWeight = ticket.lane().spec.weight();
+        long shardPosition = 0;
+        for (Lane lane : shard.lanes) {
+            if (lane == ticket.lane()) {
+                shardPosition += lanePosition;
+            } else {
+                shardPosition += Math.min(lane.size(), (long) Math.ceil(lanePosition * lane.spec.weight() / ownWeight));
+            }
+        }
+
+        long position = shardPosition;
+        for (Shard other : shards.values()) {
+            if (other != shard) {
+                position += Math.min(other.size.get(), shardPosition);
+            }
+        }
+        position = Math.min(position, Math.max(1, queued.size()));
+
+        double perSecond = servedPerSecond > 0 ? servedPerSecond : getCurrentBatchSize() * (20.0 / periodTicks);
+        long etaMillis = (long) (position / perSecond * 1000);
+        return Optional.of(new QueuePosition((int) position, queued.size(), etaMillis));
+    }
+
+    public double getServiceRate() {
+        return servedPerSecond;
+    }
+
+    public QueueMetrics getMetrics() {
+        return new QueueMetrics(queued.size(), activeSearches.get(), getCurrentBatchSize(), admittedCount.get(),
+                rejectedCount.get(), evictedCount.get(), redirectedCount.get(), expiredCount.get());
     }
     
     public int getProcessingCount() {
@@ -236,6 +832,6 @@ public class TeleportQueueManager {
         if (processing != null && processing.get()) {
             return true;
         }
-        return queue.stream().anyMatch(req -> req.player().getUniqueId().equals(playerUUID));
+        return queued.containsKey(playerUUID);
     }
 }
\ No newline at end of file
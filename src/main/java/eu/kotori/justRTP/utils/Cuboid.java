@@ -25,11 +25,18 @@ public class Cuboid {
     public boolean contains(Location loc) {
         return loc != null && loc.getWorld() != null && 
                 loc.getWorld().getName().equals(this.worldName) &&
-                loc.getBlockX() >= x1 && loc.getBlockX() <= x2 &&
-                loc.getBlockY() >= y1 && loc.getBlockY() <= y2 &&
-                loc.getBlockZ() >= z1 && loc.getBlockZ() <= z2;
+                contains(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
     }
 
+    public boolean contains(int x, int y, int z) {
+        return x >= x1 && x <= x2 && y >= y1 && y <= y2 && z >= z1 && z <= z2;
+    }
+
+    public int getMinX() { return x1; }
+    public int getMinZ() { return z1; }
+    public int getMaxX() { return x2; }
+    public int getMaxZ() { return z2; }
+
     public Location getCenter() {
         World world = Bukkit.getWorld(worldName);
         if (world == null) return null;
@@ -374,6 +374,45 @@ public class DatabaseManager {
         });
     }
 
+    public CompletableFuture<Void> createCompletedTeleportRequest(UUID playerUUID, String originServer, String targetServer, String commandArgs, String targetWorld,
+                                                                 double x, double y, double z, float yaw, float pitch, String requestType) {
+        return CompletableFuture.runAsync(() -> {
+            threadGuard.assertAsyncDatabase("createCompletedTeleportRequest");
+
+            if (!isConnected()) return;
+            plugin.debug("Creating pre-completed teleport request in DB for " + playerUUID + " to server " + targetServer + " (world: " + targetWorld + ")");
+
+            try (Connection conn = dataSource.getConnection()) {
+                String cleanupSql = "DELETE FROM justrtp_teleports WHERE player_uuid = ? AND status NOT IN ('IN_TRANSFER', 'PROCESSING')";
+                try (PreparedStatement cleanupStmt = conn.prepareStatement(cleanupSql)) {
+                    cleanupStmt.setString(1, playerUUID.toString());
+                    cleanupStmt.executeUpdate();
+                }
+
+                String sql = "INSERT INTO justrtp_teleports (player_uuid, origin_server, target_server, command_args, target_world, loc_x, loc_y, loc_z, loc_yaw, loc_pitch, status, request_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, playerUUID.toString());
+                    pstmt.setString(2, originServer);
+                    pstmt.setString(3, targetServer);
+                    pstmt.setString(4, commandArgs);
+                    pstmt.setString(5, targetWorld);
+                    pstmt.setDouble(6, x);
+                    pstmt.setDouble(7, y);
+                    pstmt.setDouble(8, z);
+                    pstmt.setFloat(9, yaw);
+                    pstmt.setFloat(10, pitch);
+                    pstmt.setString(11, RequestStatus.COMPLETE.name());
+                    pstmt.setString(12, requestType);
+                    int result = pstmt.executeUpdate();
+                    plugin.debug("Created completed teleport request for " + playerUUID + ", affected rows: " + result);
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Could not create completed teleport request for " + playerUUID, e);
+                throw new CompletionException("Failed to create completed teleport request for " + playerUUID, e);
+            }
+        });
+    }
+
     public CompletableFuture<Void> setRedisFallbackValue(String key, String dataType, String payload, Long expiresAt) {
         return CompletableFuture.runAsync(() -> {
             threadGuard.assertAsyncDatabase("setRedisFallbackValue");
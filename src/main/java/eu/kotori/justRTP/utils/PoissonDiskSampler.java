@@ -0,0 +1,85 @@
+package eu.kotori.justRTP.utils;
+
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class PoissonDiskSampler {
+
+    @FunctionalInterface
+    public interface ColumnCheck {
+        Location findSafe(int x, int z);
+    }
+
+    private static final int CANDIDATES_PER_POINT = 30;
+
+    private PoissonDiskSampler() {}
+
+    // up to count points, minDistance apart and from the center, within maxRadius, filtered by check
+    public static List<Location> sample(int centerX, int centerZ, double minDistance, double maxRadius, int count, ColumnCheck check) {
+        List<Location> result = new ArrayList<>(count);
+        double radius = Math.max(1.0, minDistance);
+        double maxR = Math.max(radius, maxRadius);
+        double cellSize = radius / Math.sqrt(2);
+        int gridSize = (int) Math.ceil(2 * maxR / cellSize) + 1;
+        double[][] grid = new double[gridSize * gridSize][];
+        List<double[]> active = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        double[] origin = {0, 0};
+        grid[cellIndex(origin, maxR, cellSize, gridSize)] = origin;
+        active.add(origin);
+
+        int checksLeft = Math.max(count, 1) * CANDIDATES_PER_POINT;
+        while (!active.isEmpty() && result.size() < count && checksLeft > 0) {
+            int activeIndex = random.nextInt(active.size());
+            double[] parent = active.get(activeIndex);
+            boolean placed = false;
+            for (int i = 0; i < CANDIDATES_PER_POINT && checksLeft > 0; i++) {
+                double angle = random.nextDouble(2 * Math.PI);
+                double distance = radius * (1 + random.nextDouble());
+                double[] candidate = {parent[0] + Math.cos(angle) * distance, parent[1] + Math.sin(angle) * distance};
+                if (candidate[0] * candidate[0] + candidate[1] * candidate[1] > maxR * maxR) continue;
+                if (!isFarEnough(candidate, grid, maxR, cellSize, gridSize, radius)) continue;
+
+                checksLeft--;
+                Location safe = check.findSafe(centerX + (int) Math.floor(candidate[0]), centerZ + (int) Math.floor(candidate[1]));
+                if (safe == null) continue;
+
+                grid[cellIndex(candidate, maxR, cellSize, gridSize)] = candidate;
+                active.add(candidate);
+                result.add(safe);
+                placed = true;
+                break;
+            }
+            if (!placed) {
+                active.remove(activeIndex);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isFarEnough(double[] point, double[][] grid, double maxR, double cellSize, int gridSize, double radius) {
+        int cellX = (int) ((point[0] + maxR) / cellSize);
+        int cellZ = (int) ((point[1] + maxR) / cellSize);
+        double radiusSquared = radius * radius;
+        for (int x = Math.max(0, cellX - 2); x <= Math.min(gridSize - 1, cellX + 2); x++) {
+            for (int z = Math.max(0, cellZ - 2); z <= Math.min(gridSize - 1, cellZ + 2); z++) {
+                double[] other = grid[x * gridSize + z];
+                if (other == null) continue;
+                double dx = other[0] - point[0];
+                double dz = other[1] - point[1];
+                if (dx * dx + dz * dz < radiusSquared) return false;
+            }
+        }
+        return true;
+    }
+
+    private static int cellIndex(double[] point, double maxR, double cellSize, int gridSize) {
+        int cellX = Math.min(gridSize - 1, (int) ((point[0] + maxR) / cellSize));
+        int cellZ = Math.min(gridSize - 1, (int) ((point[1] + maxR) / cellSize));
+        return cellX * gridSize + cellZ;
+    }
+}
@@ -15,6 +15,7 @@ public class RTPZone {
     private final int maxRadius;
     private final int minSpreadDistance;
     private final int maxSpreadDistance;
+    private final int prefetchSeconds;
     private Location hologramLocation;
     private int hologramViewDistance;
     private final String configPath;
@@ -41,6 +42,7 @@ public class RTPZone {
         this.maxRadius = section.getInt("max-radius", 1000);
         this.minSpreadDistance = section.getInt("min-spread-distance", JustRTP.getInstance().getConfig().getInt("zone_teleport_settings.min_spread_distance", 5));
         this.maxSpreadDistance = section.getInt("max-spread-distance", JustRTP.getInstance().getConfig().getInt("zone_teleport_settings.max_spread_distance", 15));
+        this.prefetchSeconds = Math.max(0, section.getInt("prefetch-seconds", JustRTP.getInstance().getConfig().getInt("zone_teleport_settings.prefetch_seconds", 5)));
 
         if (section.isConfigurationSection("hologram")) {
             this.hologramLocation = section.getLocation("hologram.location");
@@ -58,6 +60,9 @@ public class RTPZone {
         section.set("max-radius", maxRadius);
         section.set("min-spread-distance", minSpreadDistance);
         section.set("max-spread-distance", maxSpreadDistance);
+        if (section.contains("prefetch-seconds")) {
+            section.set("prefetch-seconds", prefetchSeconds);
+        }
         if (hologramLocation != null) {
             section.set("hologram.location", hologramLocation);
             section.set("hologram.view-distance", hologramViewDistance);
@@ -75,12 +80,15 @@ public class RTPZone {
     }
 
     public String getId() { return id; }
+    public String getWorldName() { return worldName; }
+    public Cuboid getCuboid() { return cuboid; }
     public int getInterval() { return interval; }
     public String getTarget() { return target; }
     public int getMinRadius() { return minRadius; }
     public int getMaxRadius() { return maxRadius; }
     public int getMinSpreadDistance() { return minSpreadDistance; }
     public int getMaxSpreadDistance() { return maxSpreadDistance; }
+    public int getPrefetchSeconds() { return prefetchSeconds; }
 
     public String getOnEnterEffectsPath() { return configPath + ".effects.on_enter"; }
     public String getOnLeaveEffectsPath() { return configPath + ".effects.on_leave"; }
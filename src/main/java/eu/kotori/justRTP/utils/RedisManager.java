@@ -474,6 +474,47 @@ public class RedisManager {
         });
     }
     
+    public CompletableFuture<String> lindex(String key, long index) {
+        return CompletableFuture.supplyAsync(() -> {
+            threadGuard.assertAsyncRedis("lindex");
+            if (!isConnected()) {
+                return lindexFallback(key, index);
+            }
+            
+            long startTime = debugEnabled ? System.currentTimeMillis() : 0;
+            try (Jedis jedis = jedisPool.getResource()) {
+                String result = jedis.lindex(key, index);
+                if (debugEnabled) logSlowOperation("LINDEX", key, startTime);
+                return result;
+            } catch (Exception e) {
+                handleRedisError("LINDEX", key, e);
+                return lindexFallback(key, index);
+            }
+        });
+    }
+    
+    public CompletableFuture<String> ltrim(String key, long start, long stop) {
+        return CompletableFuture.supplyAsync(() -> {
+            threadGuard.assertAsyncRedis("ltrim");
+            if (!isConnected()) {
+                return ltrimFallback(key, start, stop);
+            }
+            
+            long startTime = debugEnabled ? System.currentTimeMillis() : 0;
+            try (Jedis jedis = jedisPool.getResource()) {
+                String result = jedis.ltrim(key, start, stop);
+                if (debugEnabled) logSlowOperation("LTRIM", key, startTime);
+                if (memoryFallbackEnabled) {
+                    ltrimFallback(key, start, stop);
+                }
+                return result;
+            } catch (Exception e) {
+                handleRedisError("LTRIM", key, e);
+                return ltrimFallback(key, start, stop);
+            }
+        });
+    }
+    
     public CompletableFuture<String> hget(String key, String field) {
         return CompletableFuture.supplyAsync(() -> {
             threadGuard.assertAsyncRedis("hget");
@@ -731,6 +772,38 @@ public class RedisManager {
         return value;
     }
 
+    private String lindexFallback(String key, long index) {
+        ConcurrentLinkedDeque<String> deque = getListFallback(key);
+        if (deque == null) {
+            return null;
+        }
+        List<String> snapshot = new ArrayList<>(deque);
+        int position = (int) (index < 0 ? snapshot.size() + index : index);
+        return position >= 0 && position < snapshot.size() ? snapshot.get(position) : null;
+    }
+
+    private String ltrimFallback(String key, long start, long stop) {
+        ConcurrentLinkedDeque<String> deque = getListFallback(key);
+        if (deque == null) {
+            return "OK";
+        }
+        List<String> snapshot = new ArrayList<>(deque);
+        int size = snapshot.size();
+        int from = (int) Math.max(0, start < 0 ? size + start : start);
+        int to = (int) Math.min(size - 1, stop < 0 ? size + stop : stop);
+        deque.clear();
+        if (from <= to) {
+            deque.addAll(snapshot.subList(from, to + 1));
+        }
+        if (deque.isEmpty()) {
+            fallbackStorage.remove(key, deque);
+            deleteFallback(key);
+        } else {
+            persistListFallback(key, deque);
+        }
+        return "OK";
+    }
+
     private Long llenFallback(String key) {
         ConcurrentLinkedDeque<String> deque = getListFallback(key);
         return deque != null ? (long) deque.size() : 0L;
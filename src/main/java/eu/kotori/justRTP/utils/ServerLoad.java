@@ -0,0 +1,22 @@
+package eu.kotori.justRTP.utils;
+
+import org.bukkit.Bukkit;
+
+public final class ServerLoad {
+
+    private ServerLoad() {}
+
+    public static double getAverageMspt() {
+        try {
+            return Bukkit.getAverageTickTime();
+        } catch (UnsupportedOperationException | NoSuchMethodError e) {
+            return -1.0;
+        }
+    }
+
+    public static boolean isAboveMspt(double threshold) {
+        if (threshold <= 0) return false;
+        double mspt = getAverageMspt();
+        return mspt >= 0 && mspt >= threshold;
+    }
+}